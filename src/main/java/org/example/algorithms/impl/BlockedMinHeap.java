@@ -0,0 +1,555 @@
+package org.example.algorithms.impl;
+
+import org.example.algorithms.IMinHeap;
+import org.example.metrics.PerformanceTracker;
+import org.example.metrics.jfr.BuildHeapEvent;
+import org.example.metrics.jfr.DecreaseKeyEvent;
+import org.example.metrics.jfr.ExtractMinEvent;
+import org.example.metrics.jfr.InsertEvent;
+import org.example.metrics.jfr.MergeHeapsEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Min Heap with a page-blocked (B-heap) physical layout. <br>
+ * Logically this is the same binary heap as {@link MinHeap}: indexes passed to and returned from the
+ * public methods are the usual breadth-first indexes where the children of {@code i} are {@code 2i+1}
+ * and {@code 2i+2}. Physically the tree is cut into subtrees of {@code pageHeight} levels and every such
+ * subtree is stored contiguously, so a sift walks {@code pageHeight} levels inside one page before it
+ * touches the next cache line / memory page.
+ * <p>
+ * Page rows are aligned to the bottom of the tree (the partial row is the one at the top), which keeps
+ * the backing array at most the size of the complete tree of the current depth. The layout is rebuilt
+ * when the depth changes, the same amortized O(1) cost as growing an {@link ArrayList}; shrinking is
+ * delayed by one level so alternating insert/extract at a depth boundary does not thrash.
+ * <p>
+ * Only the references are blocked: the elements themselves (e.g. boxed {@code Integer}s) still live
+ * wherever the allocator put them, so each comparison can still miss on the element.
+ */
+public class BlockedMinHeap<T extends Comparable<T>> implements IMinHeap<T> {
+    /**
+     * 15 references per page: one 64-byte cache line with compressed oops.
+     */
+    public static final int DEFAULT_PAGE_HEIGHT = 4;
+
+    // Deepest layout that still fits in a Java array (2^30 - 1 slots)
+    private static final int MAX_LAYOUT_DEPTH = 29;
+
+    // Physical Data Structure
+    private Object[] slots;
+    private int size;
+
+    private final int pageHeight;
+    private int layoutDepth;
+    // Per depth: first depth of its page row and the size of the pages in that row
+    private int[] rowStarts;
+    private int[] pageSizes;
+
+    /**
+     * Default constructor that uses cache-line sized pages.
+     */
+    public BlockedMinHeap() {
+        this(DEFAULT_PAGE_HEIGHT);
+    }
+
+    /**
+     * Parametrized constructor that sets the number of tree levels stored in one page.
+     * @param pageHeight levels per page, a page holds {@code 2^pageHeight - 1} elements.
+     * @throws IllegalArgumentException if the page height is not between 1 and 20.
+     */
+    public BlockedMinHeap(int pageHeight) {
+        if (pageHeight < 1 || pageHeight > 20) {
+            throw new IllegalArgumentException("Page height must be between 1 and 20, got " + pageHeight);
+        }
+        this.pageHeight = pageHeight;
+        relayout(pageHeight - 1);
+    }
+
+    /**
+     * Parametrized constructor that builds the heap from the specified list.
+     * @param list the elements of the heap.
+     */
+    public BlockedMinHeap(List<T> list) {
+        this();
+        appendAll(list);
+        buildHeapFast();
+    }
+
+    /**
+     * Parametrized constructor that initializes with both heaps.
+     * @param firstHeap the first heap.
+     * @param secondHeap the second heap.
+     */
+    public BlockedMinHeap(List<T> firstHeap, List<T> secondHeap) {
+        this();
+        mergeHeaps(firstHeap, secondHeap);
+    }
+
+    @Override
+    public void insert(T element) {
+        InsertEvent event = new InsertEvent();
+        event.start(this, size);
+
+        ensureDepthFor(size + 1);
+        size++;
+        traverseUp(size - 1, element);
+        event.finish();
+    }
+
+    @Override
+    public T extractMin() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("Heap is empty");
+        }
+
+        ExtractMinEvent event = new ExtractMinEvent();
+        event.start(this, size);
+
+        T min = get(0);
+        size--;
+        int lastSlot = slotOf(size, depthOf(size));
+        T last = elementAt(lastSlot);
+        slots[lastSlot] = null;
+        if (size > 0) {
+            heapify(0, last);
+        }
+        shrinkIfSparse();
+        event.finish();
+
+        return min;
+    }
+
+    @Override
+    public T getMin() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("Heap is empty");
+        }
+
+        return get(0);
+    }
+
+    /**
+     * Decreases specified element to the new element.
+     * @throws IllegalArgumentException If you are increasing the key instead of decreasing it.
+     * @throws NoSuchElementException If the element you specified does not exist.
+     * @param element element to change.
+     * @param newElement element to decrease into.
+     */
+    @Override
+    public void decreaseKey(T element, T newElement) {
+        if (element.compareTo(newElement) < 0) {
+            throw new IllegalArgumentException("You are increasing the key instead of decreasing it");
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (get(i).compareTo(element) == 0) {
+                DecreaseKeyEvent event = new DecreaseKeyEvent();
+                event.start(this, size);
+
+                traverseUp(i, newElement);
+                event.finish();
+                return;
+            }
+        }
+
+        throw new NoSuchElementException(element + " is not found");
+    }
+
+    /**
+     * Decreases element at the logical index to the new element.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     * @throws IllegalArgumentException if the new element is higher than the element at the specified index.
+     * @param index the logical (breadth-first) index of the element to change.
+     * @param newElement the element to decrease into.
+     */
+    @Override
+    public void decreaseKey(int index, T newElement) {
+        PerformanceTracker.start("decreaseKey(index)[blocked]", size);
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("The " + index + " is out of bounds");
+            }
+
+            if (get(index).compareTo(newElement) < 0) {
+                throw new IllegalArgumentException("You are increasing the key instead of decreasing it");
+            }
+
+            DecreaseKeyEvent event = new DecreaseKeyEvent();
+            event.start(this, size);
+
+            PerformanceTracker.incrementArrayAccesses(2);
+
+            traverseUp(index, newElement);
+            event.finish();
+        } finally {
+            PerformanceTracker.stop();
+            PerformanceTracker.writeToCSV("metrics.csv");
+        }
+    }
+
+    /**
+     * Merges specified heap into current heap.
+     * @param minHeap the specified min heap.
+     */
+    @Override
+    public void mergeHeaps(List<T> minHeap) {
+        PerformanceTracker.start("mergeHeaps(single)[blocked]", size);
+        try {
+            MergeHeapsEvent event = new MergeHeapsEvent();
+            event.start(this, size);
+
+            appendAll(minHeap);
+            buildHeapFast();
+            event.finish();
+        } finally {
+            PerformanceTracker.stop();
+            PerformanceTracker.writeToCSV("metrics.csv");
+        }
+    }
+
+    /**
+     * Clears current heap and rebuilds it from both specified heaps.
+     * @param firstHeap the first heap.
+     * @param secondHeap the second heap.
+     */
+    @Override
+    public void mergeHeaps(List<T> firstHeap, List<T> secondHeap) {
+        MergeHeapsEvent event = new MergeHeapsEvent();
+        event.start(this, size);
+
+        size = 0;
+        relayout(pageHeight - 1);
+        appendAll(firstHeap);
+        appendAll(secondHeap);
+        buildHeapFast();
+        event.finish();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the heap in logical (breadth-first) order. <br>
+     * Unlike {@link MinHeap#getHeap()} this is a snapshot, changes to it do not affect the heap.
+     * @return Returns heap as a list.
+     */
+    @Override
+    public List<T> getHeap() {
+        List<T> heap = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            heap.add(get(i));
+        }
+        return heap;
+    }
+
+    /**
+     * @return number of tree levels stored in one page.
+     */
+    public int getPageHeight() {
+        return pageHeight;
+    }
+
+    /**
+     * Appends elements in logical order without restoring the heap property.
+     */
+    private void appendAll(List<T> elements) {
+        ensureDepthFor(size + elements.size());
+        for (T element : elements) {
+            set(size++, element);
+        }
+    }
+
+    /**
+     * In-place heap construction using the McDiarmid–Reed algorithm.
+     */
+    private void buildHeapFast() {
+        BuildHeapEvent event = new BuildHeapEvent();
+        event.start(this, size);
+
+        for (int i = parentOf(size - 1); i >= 0; i--) {
+            mergeAt(i);
+        }
+
+        event.finish();
+    }
+
+    /**
+     * Merge operation (min-heap version of McDiarmid & Reed "Merge").
+     * Trickle an empty slot down the smaller-child path to a leaf,
+     * then bubble the stored element back up, no higher than the root.
+     */
+    private void mergeAt(int root) {
+        int rootDepth = depthOf(root);
+        int pos = root;
+        int posDepth = rootDepth;
+        int posSlot = slotOf(pos, posDepth);
+        T x = elementAt(posSlot);
+
+        // Trickle empty slot down
+        while (leftChildOf(pos) < size) {
+            int left = leftChildOf(pos);
+            int childDepth = posDepth + 1;
+            int smaller = left;
+            int smallerSlot = slotOf(left, childDepth);
+
+            PerformanceTracker.incrementArrayAccesses(2);
+            if (left + 1 < size) {
+                int rightSlot = siblingSlotOf(smallerSlot, childDepth);
+                PerformanceTracker.incrementComparisons(1);
+                if (elementAt(rightSlot).compareTo(elementAt(smallerSlot)) < 0) {
+                    smaller = left + 1;
+                    smallerSlot = rightSlot;
+                }
+            }
+
+            PerformanceTracker.incrementArrayAccesses(2);
+            slots[posSlot] = slots[smallerSlot];
+            pos = smaller;
+            posSlot = smallerSlot;
+            posDepth = childDepth;
+        }
+        PerformanceTracker.updateRecursiveDepth(posDepth - rootDepth);
+
+        // Bubble-up phase
+        while (pos > root) {
+            int parent = parentOf(pos);
+            int parentSlot = slotOf(parent, posDepth - 1);
+            T parentElement = elementAt(parentSlot);
+
+            PerformanceTracker.incrementComparisons(1);
+            PerformanceTracker.incrementArrayAccesses(1);
+            if (x.compareTo(parentElement) >= 0) {
+                break;
+            }
+
+            slots[posSlot] = parentElement;
+            PerformanceTracker.incrementSwaps(1);
+            PerformanceTracker.incrementArrayAccesses(1);
+            pos = parent;
+            posSlot = parentSlot;
+            posDepth--;
+        }
+
+        slots[posSlot] = x;
+        PerformanceTracker.incrementArrayAccesses(1);
+    }
+
+    /**
+     * Sift-down of the specified element from the specified logical index,
+     * stopping as soon as the heap property holds.
+     * @param index index to start heapifying from.
+     * @param x element to place.
+     */
+    private void heapify(int index, T x) {
+        int pos = index;
+        int posDepth = depthOf(index);
+        int posSlot = slotOf(pos, posDepth);
+        int depth = 0;
+
+        while (leftChildOf(pos) < size) {
+            int left = leftChildOf(pos);
+            int childDepth = posDepth + 1;
+            int smallest = left;
+            int smallestSlot = slotOf(left, childDepth);
+            T child = elementAt(smallestSlot);
+
+            PerformanceTracker.incrementArrayAccesses(2);
+            if (left + 1 < size) {
+                int rightSlot = siblingSlotOf(smallestSlot, childDepth);
+                T right = elementAt(rightSlot);
+                PerformanceTracker.incrementComparisons(1);
+                if (right.compareTo(child) < 0) {
+                    smallest = left + 1;
+                    smallestSlot = rightSlot;
+                    child = right;
+                }
+            }
+
+            PerformanceTracker.incrementComparisons(1);
+            if (x.compareTo(child) <= 0) {
+                break;
+            }
+
+            slots[posSlot] = child;
+            PerformanceTracker.incrementSwaps(1);
+            PerformanceTracker.incrementArrayAccesses(1);
+            pos = smallest;
+            posSlot = smallestSlot;
+            posDepth = childDepth;
+            depth++;
+        }
+
+        slots[posSlot] = x;
+        PerformanceTracker.updateRecursiveDepth(depth);
+    }
+
+    /**
+     * Sift-up of the specified element from the specified logical index.
+     * @param index index of the element being inserted.
+     * @param x element to place.
+     */
+    private void traverseUp(int index, T x) {
+        int pos = index;
+        int posDepth = depthOf(index);
+        int posSlot = slotOf(pos, posDepth);
+        int depth = 0;
+
+        while (pos > 0) {
+            int parent = parentOf(pos);
+            int parentSlot = slotOf(parent, posDepth - 1);
+            T parentElement = elementAt(parentSlot);
+
+            PerformanceTracker.incrementArrayAccesses(1);
+            PerformanceTracker.incrementComparisons(1);
+            if (x.compareTo(parentElement) > 0) {
+                break;
+            }
+
+            slots[posSlot] = parentElement;
+            PerformanceTracker.incrementSwaps(1);
+            PerformanceTracker.incrementArrayAccesses(1);
+            pos = parent;
+            posSlot = parentSlot;
+            posDepth--;
+            depth++;
+        }
+
+        slots[posSlot] = x;
+        PerformanceTracker.updateRecursiveDepth(depth);
+    }
+
+    /**
+     * Makes the layout deep enough to hold the specified number of elements.
+     */
+    private void ensureDepthFor(int count) {
+        if (count <= 1) {
+            return;
+        }
+
+        int needed = depthOf(count - 1);
+        if (needed > MAX_LAYOUT_DEPTH) {
+            throw new IllegalStateException("Blocked heap cannot hold more than " + ((1 << (MAX_LAYOUT_DEPTH + 1)) - 1) + " elements");
+        }
+        if (needed > layoutDepth) {
+            relayout(needed);
+        }
+    }
+
+    /**
+     * Drops to a shallower layout once the tree is two levels shallower than the layout.
+     */
+    private void shrinkIfSparse() {
+        int depth = size == 0 ? 0 : depthOf(size - 1);
+        int target = Math.max(depth, pageHeight - 1);
+        if (target < layoutDepth - 1) {
+            relayout(target);
+        }
+    }
+
+    /**
+     * Moves every element into a layout whose bottom page row ends at the specified depth.
+     * @param depth the deepest level the new layout can hold.
+     */
+    private void relayout(int depth) {
+        int topHeight = (depth + 1) % pageHeight == 0 ? pageHeight : (depth + 1) % pageHeight;
+        int[] newRowStarts = new int[MAX_LAYOUT_DEPTH + 1];
+        int[] newPageSizes = new int[MAX_LAYOUT_DEPTH + 1];
+        for (int d = 0; d <= MAX_LAYOUT_DEPTH; d++) {
+            boolean topRow = d < topHeight;
+            newRowStarts[d] = topRow ? 0 : topHeight + (d - topHeight) / pageHeight * pageHeight;
+            newPageSizes[d] = (1 << (topRow ? topHeight : pageHeight)) - 1;
+        }
+
+        Object[] newSlots = new Object[(1 << (depth + 1)) - 1];
+        for (int i = 0; i < size; i++) {
+            int d = depthOf(i);
+            newSlots[slotOf(i, d, newRowStarts, newPageSizes)] = slots[slotOf(i, d)];
+        }
+
+        slots = newSlots;
+        rowStarts = newRowStarts;
+        pageSizes = newPageSizes;
+        layoutDepth = depth;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int slot) {
+        return (T) slots[slot];
+    }
+
+    private T get(int index) {
+        return elementAt(slotOf(index, depthOf(index)));
+    }
+
+    private void set(int index, T element) {
+        slots[slotOf(index, depthOf(index))] = element;
+    }
+
+    private int slotOf(int index, int depth) {
+        return slotOf(index, depth, rowStarts, pageSizes);
+    }
+
+    /**
+     * Returns the slot of the right sibling of a left child. <br>
+     * Siblings share a page unless they start a page row, in which case each is the root of its own page.
+     * @param leftSlot slot of the left child.
+     * @param depth depth of both children.
+     * @return slot of the right child.
+     */
+    private int siblingSlotOf(int leftSlot, int depth) {
+        return rowStarts[depth] == depth ? leftSlot + pageSizes[depth] : leftSlot + 1;
+    }
+
+    /**
+     * Maps a logical breadth-first index to its slot in the blocked layout. <br>
+     * Rows of pages start at depth 0, topHeight, topHeight + pageHeight, ... Everything above a row is
+     * made of complete pages, so a row starting at depth {@code s} starts at slot {@code 2^s - 1}, and
+     * inside the row pages are stored left to right, each page in breadth-first order.
+     * @param index logical index.
+     * @param depth depth of the index.
+     * @param rowStarts depth at which the page row containing each depth starts.
+     * @param pageSizes page size of the page row containing each depth.
+     * @return the physical slot.
+     */
+    private static int slotOf(int index, int depth, int[] rowStarts, int[] pageSizes) {
+        int rowStart = rowStarts[depth];
+        int localDepth = depth - rowStart;
+        int positionInLevel = index + 1 - (1 << depth);
+        int localMask = (1 << localDepth) - 1;
+
+        return (1 << rowStart) - 1
+                + (positionInLevel >>> localDepth) * pageSizes[depth]
+                + localMask + (positionInLevel & localMask);
+    }
+
+    /**
+     * Returns depth of a node, the root being at depth 0.
+     * @param index node's index.
+     * @return Node's depth.
+     */
+    private static int depthOf(int index) {
+        return 31 - Integer.numberOfLeadingZeros(index + 1);
+    }
+
+    /**
+     * Returns parent index of a node.
+     * @param index node's index.
+     * @return Node's parent index.
+     */
+    private int parentOf(int index) {
+        return (index - 1) / 2;
+    }
+
+    /**
+     * Returns left child of a node.
+     * @param index node's index.
+     * @return Node's left child index.
+     */
+    private int leftChildOf(int index) {
+        return 2 * index + 1;
+    }
+}
@@ -0,0 +1,447 @@
+package org.example.algorithms.impl;
+
+import org.example.algorithms.IMinHeap;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe unbounded Min Heap that can be handed between producer and consumer threads. <br>
+ * Structural changes go through one {@link ReentrantLock} that is held only for the heap operation itself.
+ * The current minimum is republished to a volatile field after every change, so {@link #peek()} and
+ * {@link #getMin()} never take the lock. <br>
+ * {@link #drainTo(Collection, int)} and {@link #offerAll(Collection)} move whole batches under a single
+ * lock acquisition. Like {@link java.util.concurrent.PriorityBlockingQueue}, null elements are rejected
+ * and the iterator works on a snapshot.
+ */
+public class ConcurrentMinHeap<T extends Comparable<T>> extends AbstractQueue<T>
+        implements BlockingQueue<T>, IMinHeap<T> {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    // Guarded by lock
+    private final MinHeap<T> heap;
+
+    // Root of the heap, or null when empty. Written under lock, read without it.
+    private volatile T head;
+
+    /**
+     * Default constructor that initializes an empty heap.
+     */
+    public ConcurrentMinHeap() {
+        heap = new MinHeap<>();
+    }
+
+    /**
+     * Parametrized constructor that builds the heap from the specified elements.
+     * @param list the initial elements.
+     * @throws NullPointerException if any element is null.
+     */
+    public ConcurrentMinHeap(List<T> list) {
+        heap = new MinHeap<>(requireNoNulls(list));
+        publishHead();
+    }
+
+    @Override
+    public boolean offer(T element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+
+        lock.lock();
+        try {
+            heap.insert(element);
+            publishHead();
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Inserts all specified elements under one lock acquisition. <br>
+     * A batch at least as large as the heap is appended and rebuilt in O(n + m),
+     * smaller batches are inserted one by one.
+     * @param elements the elements to add.
+     * @return true if the heap changed.
+     * @throws NullPointerException if any element is null.
+     */
+    public boolean offerAll(Collection<? extends T> elements) {
+        List<T> batch = requireNoNulls(elements);
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (batch.size() >= heap.size()) {
+                heap.mergeHeaps(new ArrayList<>(heap.getHeap()), batch);
+            } else {
+                for (T element : batch) {
+                    heap.insert(element);
+                }
+            }
+            publishHead();
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> elements) {
+        if (elements == this) {
+            throw new IllegalArgumentException("Cannot add a queue to itself");
+        }
+        return offerAll(elements);
+    }
+
+    @Override
+    public void put(T element) {
+        offer(element);
+    }
+
+    /**
+     * The heap is unbounded, so this never waits.
+     */
+    @Override
+    public boolean offer(T element, long timeout, TimeUnit unit) {
+        return offer(element);
+    }
+
+    @Override
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (heap.size() == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (heap.size() == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T poll() {
+        lock.lock();
+        try {
+            return heap.size() == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lock-free read of the current minimum.
+     * @return the minimum, or null if the heap is empty.
+     */
+    @Override
+    public T peek() {
+        return head;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Moves up to {@code maxElements} minimum elements, in ascending order,
+     * into the collection under one lock acquisition.
+     * @param collection the collection to transfer elements into.
+     * @param maxElements the maximum number of elements to transfer.
+     * @return the number of elements transferred.
+     */
+    @Override
+    public int drainTo(Collection<? super T> collection, int maxElements) {
+        if (collection == null) {
+            throw new NullPointerException();
+        }
+        if (collection == this) {
+            throw new IllegalArgumentException("Cannot drain a queue into itself");
+        }
+        if (maxElements <= 0) {
+            return 0;
+        }
+
+        lock.lock();
+        try {
+            int n = Math.min(heap.size(), maxElements);
+            for (int i = 0; i < n; i++) {
+                // Add before removing so an element rejected by the collection stays in the heap
+                collection.add(heap.getMin());
+                heap.extractMin();
+            }
+            return n;
+        } finally {
+            // Also runs when the collection throws part way, so peek() never sees a drained head
+            publishHead();
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return heap.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        lock.lock();
+        try {
+            return heap.getHeap().contains(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a single instance of the specified element. O(n), the heap is rebuilt afterwards.
+     * @param element element to be removed.
+     * @return true if the element was removed.
+     */
+    @Override
+    public boolean remove(Object element) {
+        if (element == null) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            List<T> remaining = new ArrayList<>(heap.getHeap());
+            if (!remaining.remove(element)) {
+                return false;
+            }
+            heap.mergeHeaps(remaining, Collections.emptyList());
+            publishHead();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            heap.mergeHeaps(Collections.emptyList(), Collections.emptyList());
+            publishHead();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        lock.lock();
+        try {
+            return heap.getHeap().toArray();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public <E> E[] toArray(E[] array) {
+        lock.lock();
+        try {
+            return heap.getHeap().toArray(array);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the heap, in heap (not sorted) order.
+     * @return the iterator.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final List<T> snapshot = getHeap();
+            private int cursor = 0;
+            private T lastReturned;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < snapshot.size();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = snapshot.get(cursor++);
+                return lastReturned;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+                ConcurrentMinHeap.this.remove(lastReturned);
+                lastReturned = null;
+            }
+        };
+    }
+
+    @Override
+    public void insert(T element) {
+        offer(element);
+    }
+
+    @Override
+    public T extractMin() {
+        lock.lock();
+        try {
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lock-free read of the current minimum.
+     * @throws IndexOutOfBoundsException if the heap is empty.
+     * @return the minimum.
+     */
+    @Override
+    public T getMin() {
+        T min = head;
+        if (min == null) {
+            throw new IndexOutOfBoundsException("List is empty");
+        }
+        return min;
+    }
+
+    @Override
+    public void decreaseKey(T element, T newElement) {
+        if (newElement == null) {
+            throw new NullPointerException();
+        }
+
+        lock.lock();
+        try {
+            heap.decreaseKey(element, newElement);
+            publishHead();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void decreaseKey(int index, T newElement) {
+        if (newElement == null) {
+            throw new NullPointerException();
+        }
+
+        lock.lock();
+        try {
+            heap.decreaseKey(index, newElement);
+            publishHead();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void mergeHeaps(List<T> minHeap) {
+        offerAll(minHeap);
+    }
+
+    @Override
+    public void mergeHeaps(List<T> firstHeap, List<T> secondHeap) {
+        List<T> first = requireNoNulls(firstHeap);
+        List<T> second = requireNoNulls(secondHeap);
+
+        lock.lock();
+        try {
+            heap.mergeHeaps(first, second);
+            publishHead();
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the heap in heap order.
+     * @return Returns heap as a list.
+     */
+    @Override
+    public List<T> getHeap() {
+        lock.lock();
+        try {
+            return new ArrayList<>(heap.getHeap());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the root. Must be called with the lock held.
+     */
+    private T dequeue() {
+        T min = heap.extractMin();
+        publishHead();
+        return min;
+    }
+
+    /**
+     * Republishes the root for lock-free readers. Must be called with the lock held.
+     */
+    private void publishHead() {
+        head = heap.size() == 0 ? null : heap.getMin();
+    }
+
+    private static <E> List<E> requireNoNulls(Collection<? extends E> elements) {
+        List<E> copy = new ArrayList<>(elements);
+        for (E element : copy) {
+            if (element == null) {
+                throw new NullPointerException();
+            }
+        }
+        return copy;
+    }
+}
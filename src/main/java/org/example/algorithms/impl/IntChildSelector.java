@@ -0,0 +1,56 @@
+package org.example.algorithms.impl;
+
+/**
+ * Finds the smallest of the {@code arity} children stored contiguously in an {@code int[]}.
+ * This is the inner loop of every sift-down in {@link IntDaryHeap}.
+ */
+interface IntChildSelector {
+    /**
+     * @param slots backing array, readable for {@code arity} slots from {@code first}.
+     * @param first array index of the first child.
+     * @return array index of the smallest child, the first one on ties.
+     */
+    int minChild(int[] slots, int first);
+
+    /**
+     * @return true if the selector uses SIMD instructions.
+     */
+    boolean isVectorized();
+
+    /**
+     * Chooses the vectorized selector if requested and {@code jdk.incubator.vector} is available,
+     * otherwise the scalar loop.
+     */
+    static IntChildSelector of(int arity, boolean vectorized) {
+        if (vectorized && VectorSupport.isAvailable()) {
+            IntChildSelector selector = VectorSupport.load("VectorIntChildSelector", arity);
+            if (selector != null) {
+                return selector;
+            }
+        }
+        return scalar(arity);
+    }
+
+    /**
+     * Scalar fallback: one comparison per child.
+     */
+    static IntChildSelector scalar(int arity) {
+        return new IntChildSelector() {
+            @Override
+            public int minChild(int[] slots, int first) {
+                int min = first;
+                for (int i = first + 1; i < first + arity; i++) {
+                    if (slots[i] < slots[min]) {
+                        min = i;
+                    }
+                }
+                return min;
+            }
+
+            @Override
+            public boolean isVectorized() {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,360 @@
+package org.example.algorithms.impl;
+
+import org.example.algorithms.IMinHeap;
+import org.example.metrics.PerformanceTracker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Min Heap with O(1) logical deletion. <br>
+ * Deleting marks the entry as a tombstone and leaves it in place; {@link #getMin()} and
+ * {@link #extractMin()} pop tombstones that reach the root. Once the share of tombstones crosses the
+ * compaction threshold, they are filtered out and the heap is rebuilt in place with
+ * {@link MinHeap#buildHeapFast()}, so a delete costs O(1) amortized.
+ */
+public class LazyDeletionMinHeap<T extends Comparable<T>> implements IMinHeap<T> {
+    /**
+     * Compact once half of the stored entries are tombstones.
+     */
+    public static final double DEFAULT_COMPACTION_THRESHOLD = 0.5;
+
+    /**
+     * Reference to an inserted element, used to delete it without searching the heap.
+     */
+    public static final class Handle<T extends Comparable<T>> implements Comparable<Handle<T>> {
+        private final LazyDeletionMinHeap<T> owner;
+        private T element;
+        private boolean alive = true;
+
+        private Handle(LazyDeletionMinHeap<T> owner, T element) {
+            this.owner = owner;
+            this.element = element;
+        }
+
+        /**
+         * @return the element behind this handle.
+         */
+        public T get() {
+            return element;
+        }
+
+        /**
+         * @return true until the element is deleted or extracted.
+         */
+        public boolean isAlive() {
+            return alive;
+        }
+
+        @Override
+        public int compareTo(Handle<T> other) {
+            return element.compareTo(other.element);
+        }
+    }
+
+    // Physical Data Structure, tombstones included
+    private final MinHeap<Handle<T>> heap;
+    private final double compactionThreshold;
+    private int deadCount;
+
+    private long compactionCount;
+    private long lastCompactionTimeNanos;
+    private long totalCompactionTimeNanos;
+
+    /**
+     * Default constructor that compacts at {@link #DEFAULT_COMPACTION_THRESHOLD}.
+     */
+    public LazyDeletionMinHeap() {
+        this(DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Parametrized constructor that sets the tombstone ratio which triggers compaction.
+     * @param compactionThreshold ratio of tombstones to stored entries in (0, 1], 1 disables automatic compaction.
+     * @throws IllegalArgumentException if the threshold is out of range.
+     */
+    public LazyDeletionMinHeap(double compactionThreshold) {
+        if (!(compactionThreshold > 0 && compactionThreshold <= 1)) {
+            throw new IllegalArgumentException("Compaction threshold must be in (0, 1], got " + compactionThreshold);
+        }
+        this.compactionThreshold = compactionThreshold;
+        this.heap = new MinHeap<>();
+    }
+
+    /**
+     * Parametrized constructor that builds the heap from the specified list.
+     * @param list the elements of the heap.
+     */
+    public LazyDeletionMinHeap(List<T> list) {
+        this();
+        heap.mergeHeaps(wrap(list), List.of());
+    }
+
+    @Override
+    public void insert(T element) {
+        insertWithHandle(element);
+    }
+
+    /**
+     * Inserts to the heap and returns a handle for deleting the element later.
+     * @param element the element to be added.
+     * @return the handle of the inserted element.
+     */
+    public Handle<T> insertWithHandle(T element) {
+        Handle<T> handle = new Handle<>(this, element);
+        heap.insert(handle);
+        return handle;
+    }
+
+    /**
+     * Logically deletes the element behind the handle in O(1), compacting the heap
+     * if the tombstone ratio crosses the threshold.
+     * @param handle handle returned by {@link #insertWithHandle(Object)}.
+     * @return false if the element was already deleted or extracted, or belongs to another heap.
+     */
+    public boolean delete(Handle<T> handle) {
+        if (handle.owner != this || !handle.alive) {
+            return false;
+        }
+
+        handle.alive = false;
+        deadCount++;
+        if (getDeadEntryRatio() > compactionThreshold) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Logically deletes one element equal to the specified element. O(n), prefer {@link #delete(Handle)}.
+     * @param element element to delete.
+     * @return true if an element was deleted.
+     */
+    public boolean remove(T element) {
+        for (Handle<T> handle : heap.getHeap()) {
+            if (handle.alive && handle.element.compareTo(element) == 0) {
+                return delete(handle);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get root, skipping tombstones.
+     * @return The root.
+     */
+    @Override
+    public T getMin() {
+        purgeDeadRoot();
+        if (heap.size() == 0) {
+            throw new IndexOutOfBoundsException("List is empty");
+        }
+
+        return heap.getMin().element;
+    }
+
+    /**
+     * Extract root, skipping tombstones.
+     * @return The root.
+     */
+    @Override
+    public T extractMin() {
+        purgeDeadRoot();
+        if (heap.size() == 0) {
+            throw new IndexOutOfBoundsException("List is empty");
+        }
+
+        Handle<T> min = heap.extractMin();
+        min.alive = false;
+        return min.element;
+    }
+
+    /**
+     * Decreases specified element to the new element.
+     * @throws IllegalArgumentException If you are increasing the key instead of decreasing it.
+     * @throws NoSuchElementException If the element you specified does not exist.
+     * @param element element to change.
+     * @param newElement element to decrease into.
+     */
+    @Override
+    public void decreaseKey(T element, T newElement) {
+        if (element.compareTo(newElement) < 0) {
+            throw new IllegalArgumentException("You are increasing the key instead of decreasing it");
+        }
+
+        List<Handle<T>> entries = heap.getHeap();
+        for (int i = 0; i < entries.size(); i++) {
+            Handle<T> handle = entries.get(i);
+            if (handle.alive && handle.element.compareTo(element) == 0) {
+                handle.element = newElement;
+                heap.decreaseKey(i, handle);
+                return;
+            }
+        }
+
+        throw new NoSuchElementException(element + " is not found");
+    }
+
+    /**
+     * Decreases element at the index of {@link #getHeap()} to the new element.
+     * Compacts first so that indexes only count live elements.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     * @throws IllegalArgumentException if the new element is higher than the element at the specified index.
+     * @param index the index of the element to change.
+     * @param newElement the element to decrease into.
+     */
+    @Override
+    public void decreaseKey(int index, T newElement) {
+        if (deadCount > 0) {
+            compact();
+        }
+        if (index < 0 || index >= heap.size()) {
+            throw new IndexOutOfBoundsException("The " + index + " is out of bounds");
+        }
+
+        Handle<T> handle = heap.getHeap().get(index);
+        if (handle.element.compareTo(newElement) < 0) {
+            throw new IllegalArgumentException("You are increasing the key instead of decreasing it");
+        }
+
+        // Same entry, so MinHeap only has to sift it up
+        handle.element = newElement;
+        heap.decreaseKey(index, handle);
+    }
+
+    /**
+     * Merges specified heap into current heap, dropping tombstones in the same rebuild.
+     * @param minHeap the specified min heap.
+     */
+    @Override
+    public void mergeHeaps(List<T> minHeap) {
+        if (deadCount == 0) {
+            heap.mergeHeaps(wrap(minHeap));
+            return;
+        }
+
+        // Removing tombstones breaks the heap order, so rebuild the live entries and the new ones together
+        List<Handle<T>> live = new ArrayList<>(heap.size() - deadCount);
+        for (Handle<T> handle : heap.getHeap()) {
+            if (handle.alive) {
+                live.add(handle);
+            }
+        }
+        deadCount = 0;
+        heap.mergeHeaps(live, wrap(minHeap));
+    }
+
+    /**
+     * Clears current heap and makes new one by combining specified two heaps.
+     * Handles of the previous elements stop being alive.
+     * @param firstHeap the first heap.
+     * @param secondHeap the second heap.
+     */
+    @Override
+    public void mergeHeaps(List<T> firstHeap, List<T> secondHeap) {
+        for (Handle<T> handle : heap.getHeap()) {
+            handle.alive = false;
+        }
+        deadCount = 0;
+        heap.mergeHeaps(wrap(firstHeap), wrap(secondHeap));
+    }
+
+    /**
+     * @return Returns the number of live elements.
+     */
+    @Override
+    public int size() {
+        return heap.size() - deadCount;
+    }
+
+    /**
+     * Returns a snapshot of the live elements in heap order, compacting first.
+     * @return Returns heap as a list.
+     */
+    @Override
+    public List<T> getHeap() {
+        if (deadCount > 0) {
+            compact();
+        }
+
+        List<T> elements = new ArrayList<>(heap.size());
+        for (Handle<T> handle : heap.getHeap()) {
+            elements.add(handle.element);
+        }
+        return elements;
+    }
+
+    /**
+     * Removes all tombstones and rebuilds the heap in place in O(n).
+     */
+    public void compact() {
+        long start = System.nanoTime();
+        PerformanceTracker.start("compact", heap.size());
+        try {
+            heap.getHeap().removeIf(handle -> !handle.alive);
+            heap.buildHeapFast();
+            deadCount = 0;
+        } finally {
+            PerformanceTracker.stop();
+            PerformanceTracker.writeToCSV("metrics.csv");
+        }
+
+        lastCompactionTimeNanos = System.nanoTime() - start;
+        totalCompactionTimeNanos += lastCompactionTimeNanos;
+        compactionCount++;
+    }
+
+    /**
+     * @return share of stored entries that are tombstones, between 0 and 1.
+     */
+    public double getDeadEntryRatio() {
+        return heap.size() == 0 ? 0.0 : (double) deadCount / heap.size();
+    }
+
+    /**
+     * @return number of tombstones still stored.
+     */
+    public int getDeadCount() {
+        return deadCount;
+    }
+
+    /**
+     * @return number of compactions so far.
+     */
+    public long getCompactionCount() {
+        return compactionCount;
+    }
+
+    /**
+     * @return duration of the last compaction in nanoseconds.
+     */
+    public long getLastCompactionTimeNanos() {
+        return lastCompactionTimeNanos;
+    }
+
+    /**
+     * @return duration of all compactions so far in nanoseconds.
+     */
+    public long getTotalCompactionTimeNanos() {
+        return totalCompactionTimeNanos;
+    }
+
+    /**
+     * Pops tombstones off the root until a live element or nothing is left.
+     */
+    private void purgeDeadRoot() {
+        while (heap.size() > 0 && !heap.getMin().alive) {
+            heap.extractMin();
+            deadCount--;
+        }
+    }
+
+    private List<Handle<T>> wrap(List<T> elements) {
+        List<Handle<T>> handles = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            handles.add(new Handle<>(this, element));
+        }
+        return handles;
+    }
+}
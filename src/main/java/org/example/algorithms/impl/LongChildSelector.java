@@ -0,0 +1,56 @@
+package org.example.algorithms.impl;
+
+/**
+ * Finds the smallest of the {@code arity} children stored contiguously in a {@code long[]}.
+ * This is the inner loop of every sift-down in {@link LongDaryHeap}.
+ */
+interface LongChildSelector {
+    /**
+     * @param slots backing array, readable for {@code arity} slots from {@code first}.
+     * @param first array index of the first child.
+     * @return array index of the smallest child, the first one on ties.
+     */
+    int minChild(long[] slots, int first);
+
+    /**
+     * @return true if the selector uses SIMD instructions.
+     */
+    boolean isVectorized();
+
+    /**
+     * Chooses the vectorized selector if requested and {@code jdk.incubator.vector} is available,
+     * otherwise the scalar loop.
+     */
+    static LongChildSelector of(int arity, boolean vectorized) {
+        if (vectorized && VectorSupport.isAvailable()) {
+            LongChildSelector selector = VectorSupport.load("VectorLongChildSelector", arity);
+            if (selector != null) {
+                return selector;
+            }
+        }
+        return scalar(arity);
+    }
+
+    /**
+     * Scalar fallback: one comparison per child.
+     */
+    static LongChildSelector scalar(int arity) {
+        return new LongChildSelector() {
+            @Override
+            public int minChild(long[] slots, int first) {
+                int min = first;
+                for (int i = first + 1; i < first + arity; i++) {
+                    if (slots[i] < slots[min]) {
+                        min = i;
+                    }
+                }
+                return min;
+            }
+
+            @Override
+            public boolean isVectorized() {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.algorithms.impl;
+
+import java.util.Arrays;
+
+/**
+ * Min Heap of primitive {@code long}s with 8 or 16 children per node. <br>
+ * A wide node halves or quarters the depth of the tree, so extractMin touches fewer cache lines, but each
+ * level has to find the smallest of {@code arity} children. With {@code jdk.incubator.vector} on the module
+ * path that search is done with SIMD min/compare instructions, otherwise with a scalar loop.
+ * <p>
+ * Layout: logical index {@code i} is stored at {@code i + arity - 1}, so the children of {@code i}
+ * ({@code arity*i + 1 .. arity*i + arity}) start at a multiple of {@code arity} in the array and never
+ * straddle a vector load. Slots past the last element hold {@link Long#MAX_VALUE} so the last group of
+ * children can always be loaded whole.
+ * <p>
+ * Unlike {@link MinHeap} the operations are not instrumented with {@code PerformanceTracker},
+ * which would cost more than the child search being measured.
+ */
+public class LongDaryHeap {
+    public static final int DEFAULT_ARITY = 8;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Physical Data Structure
+    private long[] slots;
+    private int size;
+
+    private final int arity;
+    private final int offset;
+    private final LongChildSelector selector;
+
+    /**
+     * Default constructor: arity 8, vectorized if the Vector API is available.
+     */
+    public LongDaryHeap() {
+        this(DEFAULT_ARITY, true);
+    }
+
+    /**
+     * Parametrized constructor.
+     * @param arity children per node, 8 or 16.
+     * @param vectorized false to force the scalar child search.
+     * @throws IllegalArgumentException if the arity is not 8 or 16.
+     */
+    public LongDaryHeap(int arity, boolean vectorized) {
+        if (arity != 8 && arity != 16) {
+            throw new IllegalArgumentException("Arity must be 8 or 16, got " + arity);
+        }
+        this.arity = arity;
+        this.offset = arity - 1;
+        this.selector = LongChildSelector.of(arity, vectorized);
+        this.slots = newSlots(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Parametrized constructor that builds the heap from the specified values in O(n).
+     * @param values the elements of the heap, not modified.
+     * @param arity children per node, 8 or 16.
+     * @param vectorized false to force the scalar child search.
+     */
+    public LongDaryHeap(long[] values, int arity, boolean vectorized) {
+        this(arity, vectorized);
+        slots = newSlots(Math.max(values.length, DEFAULT_CAPACITY));
+        System.arraycopy(values, 0, slots, offset, values.length);
+        size = values.length;
+
+        for (int i = parentOf(size - 1); i >= 0; i--) {
+            heapify(i, slots[offset + i]);
+        }
+    }
+
+    /**
+     * Insert a new element into the heap.
+     */
+    public void insert(long value) {
+        if (offset + size + arity > slots.length) {
+            long[] grown = newSlots(size * 2);
+            System.arraycopy(slots, offset, grown, offset, size);
+            slots = grown;
+        }
+
+        traverseUp(size++, value);
+    }
+
+    /**
+     * @return the minimum element of the heap.
+     * @throws IndexOutOfBoundsException if the heap is empty.
+     */
+    public long getMin() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("List is empty");
+        }
+        return slots[offset];
+    }
+
+    /**
+     * Removes and returns the minimum element of the heap.
+     * @throws IndexOutOfBoundsException if the heap is empty.
+     */
+    public long extractMin() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("List is empty");
+        }
+
+        long min = slots[offset];
+        long last = slots[offset + --size];
+        slots[offset + size] = Long.MAX_VALUE;
+        if (size > 0) {
+            heapify(0, last);
+        }
+        return min;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getArity() {
+        return arity;
+    }
+
+    /**
+     * @return true if the child search uses the Vector API.
+     */
+    public boolean isVectorized() {
+        return selector.isVectorized();
+    }
+
+    /**
+     * @return the elements in heap order.
+     */
+    public long[] toArray() {
+        return Arrays.copyOfRange(slots, offset, offset + size);
+    }
+
+    /**
+     * Sifts the specified value down from a hole at the specified index.
+     * Slots past the last element hold MAX_VALUE, so a partial group of children is never chosen over the value.
+     */
+    private void heapify(int index, long value) {
+        int firstChild;
+        while ((firstChild = arity * index + 1) < size) {
+            int child = selector.minChild(slots, offset + firstChild);
+            if (slots[child] >= value) {
+                break;
+            }
+            slots[offset + index] = slots[child];
+            index = child - offset;
+        }
+        slots[offset + index] = value;
+    }
+
+    /**
+     * Sifts the specified value up from a hole at the specified index.
+     */
+    private void traverseUp(int index, long value) {
+        while (index > 0) {
+            int parent = parentOf(index);
+            if (slots[offset + parent] <= value) {
+                break;
+            }
+            slots[offset + index] = slots[offset + parent];
+            index = parent;
+        }
+        slots[offset + index] = value;
+    }
+
+    private int parentOf(int index) {
+        return (index - 1) / arity;
+    }
+
+    /**
+     * Backing array for the specified number of elements, with room for a whole last group of children.
+     */
+    private long[] newSlots(int capacity) {
+        long[] grown = new long[offset + capacity + arity];
+        Arrays.fill(grown, Long.MAX_VALUE);
+        return grown;
+    }
+}
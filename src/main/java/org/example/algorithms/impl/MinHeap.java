@@ -2,20 +2,42 @@ package org.example.algorithms.impl;
 
 import org.example.algorithms.IMinHeap;
 import org.example.metrics.PerformanceTracker;
-
+import org.example.metrics.jfr.BuildHeapEvent;
+import org.example.metrics.jfr.DecreaseKeyEvent;
+import org.example.metrics.jfr.ExtractMinBatchEvent;
+import org.example.metrics.jfr.ExtractMinEvent;
+import org.example.metrics.jfr.InsertBatchEvent;
+import org.example.metrics.jfr.InsertEvent;
+import org.example.metrics.jfr.MergeHeapsEvent;
+
+import java.io.Serial;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class MinHeap<T extends Comparable<T>> implements IMinHeap<T> {
+    // Adaptive build: run normalization stops at the first run shorter than this
+    private static final int MIN_NORMALIZED_RUN = 8;
+    // Adaptive build: adjacent pairs sampled to tell nearly-sorted input from random input
+    private static final int PRESORTEDNESS_SAMPLES = 32;
+    // Batch operations: levels with fewer subtrees to rebuild than this are rebuilt on the calling thread
+    private static final int PARALLEL_LEVEL_THRESHOLD = 1024;
+
     // Physical Data Structure
     private List<T> list;
 
+    // Whether buildHeapFast adapts to presorted input
+    private final boolean adaptive;
+
     /**
      * Default constructor that initializes with Array List.
      */
     public MinHeap() {
         list = new ArrayList<>();
+        adaptive = false;
     }
 
     /**
@@ -24,7 +46,18 @@ public class MinHeap<T extends Comparable<T>> implements IMinHeap<T> {
      * @param list Any Physical Data Structure that implements the List interface.
      */
     public MinHeap(List<T> list) {
+        this(list, false);
+    }
+
+    /**
+     * Parametrized constructor that also chooses whether heap construction adapts to presorted input.
+     * The other constructors always run the plain McDiarmid–Reed build.
+     * @param list Any Physical Data Structure that implements the List interface.
+     * @param adaptive true to adapt this build and later merges to presorted input, see {@link #buildHeapFast(int)}.
+     */
+    public MinHeap(List<T> list, boolean adaptive) {
         this.list = new ArrayList<>(list);
+        this.adaptive = adaptive;
         buildHeapFast();
     }
 
@@ -35,24 +68,164 @@ public class MinHeap<T extends Comparable<T>> implements IMinHeap<T> {
      */
     public MinHeap(List<T> firstHeap, List<T> secondHeap) {
         this.list = new ArrayList<>();
+        this.adaptive = false;
         mergeHeaps(firstHeap, secondHeap);
     }
 
     /**
      * In-place heap construction using the McDiarmid–Reed algorithm.
-     * Trickle an empty slot down, then bubble up the saved element.
+     * Trickle an empty slot down, then bubble up the saved element. <br>
+     * Package-private so wrappers in this package can restore the heap after editing {@link #getHeap()} in place.
+     */
+    void buildHeapFast() {
+        buildHeapFast(0);
+    }
+
+    /**
+     * Heap construction that adapts to presorted input with linear checks: <br>
+     *  the heap-ordered prefix is found and only the ancestors of the rest are rebuilt,
+     *  so ascending or already heap-ordered input is not touched; <br>
+     *  input that starts with a descending pair has its leading descending runs reversed, until the
+     *  first run shorter than {@link #MIN_NORMALIZED_RUN}; <br>
+     *  a nearly-sorted remainder, judged from {@link #PRESORTEDNESS_SAMPLES} sampled pairs, is rebuilt with
+     *  early-exit sift-down, which stops after two comparisons at an ordered node, instead of McDiarmid–Reed,
+     *  which always trickles to a leaf. <br>
+     * Runs are not detected across the whole input: a full scan costs n - 1 comparisons, which is as much
+     * as it saves. Descending runs after an ascending start are left to the rebuild.
+     * @param heapPrefix length of a prefix already known to be heap-ordered.
      */
-    private void buildHeapFast() {
+    private void buildHeapFast(int heapPrefix) {
+        BuildHeapEvent event = new BuildHeapEvent();
+        event.start(this, list.size());
+
         int n = list.size();
-        for (int i = parentOf(n - 1); i >= 0; i--) {
-            mergeAt(i, n, 0);
+        if (!adaptive) {
+            rebuildFrom(0, false);
+        } else if (n > 1) {
+            int first = Math.max(heapPrefix, 1);
+            if (first == 1 && compare(1, 0) < 0) {
+                first = normalizeRuns();
+            }
+
+            first = heapOrderedPrefix(first);
+            if (first < n) {
+                rebuildFrom(first, isNearlySorted(first));
+            }
+        }
+
+        event.finish();
+    }
+
+    /**
+     * Extends a heap-ordered prefix as far as the heap property holds.
+     * @param from length of a prefix already known to be heap-ordered.
+     * @return length of the heap-ordered prefix.
+     */
+    private int heapOrderedPrefix(int from) {
+        int n = list.size();
+        int i = Math.max(from, 1);
+        while (i < n && compare(parentOf(i), i) <= 0) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Reverses descending runs from the start of the list in place,
+     * stopping at the first run shorter than {@link #MIN_NORMALIZED_RUN}.
+     * @return length of the first run, which is now ascending.
+     */
+    private int normalizeRuns() {
+        int n = list.size();
+        int firstRun = 0;
+        int start = 0;
+
+        while (start < n) {
+            int end = start + 1;
+            if (end < n && compare(end, start) < 0) {
+                while (end + 1 < n && compare(end + 1, end) <= 0) {
+                    end++;
+                }
+                reverse(start, end);
+                end++;
+            } else {
+                while (end < n && compare(end, end - 1) >= 0) {
+                    end++;
+                }
+            }
+
+            if (start == 0) {
+                firstRun = end;
+            }
+            if (end - start < MIN_NORMALIZED_RUN) {
+                break;
+            }
+            start = end;
+        }
+
+        return firstRun;
+    }
+
+    /**
+     * Samples evenly spaced adjacent pairs after the specified index and counts descents.
+     * @param from first index of the unordered part.
+     * @return true if at most a third of the sampled pairs descend.
+     */
+    private boolean isNearlySorted(int from) {
+        int pairs = list.size() - 1 - from;
+        if (pairs < 8 * PRESORTEDNESS_SAMPLES) {
+            return false;
+        }
+
+        int step = pairs / PRESORTEDNESS_SAMPLES;
+        int descents = 0;
+        for (int k = 0; k < PRESORTEDNESS_SAMPLES; k++) {
+            int i = from + k * step;
+            if (compare(i, i + 1) > 0) {
+                descents++;
+            }
+        }
+        return descents * 3 <= PRESORTEDNESS_SAMPLES;
+    }
+
+    /**
+     * Restores the heap property when only the elements from the specified index on may be out of order.
+     * Only the ancestors of those elements are rebuilt: their parents form the index range
+     * [parentOf(first), parentOf(n - 1)], their grandparents the range above, and so on,
+     * so the ranges are merged from the bottom up in decreasing index order.
+     * @param first first index that may violate the heap property.
+     * @param earlyExit true to use early-exit sift-down instead of the McDiarmid–Reed merge.
+     */
+    private void rebuildFrom(int first, boolean earlyExit) {
+        int n = list.size();
+        int lastParent = parentOf(n - 1);
+        int lo = first;
+        int hi = n - 1;
+        int next = lastParent;
+
+        while (next >= 0) {
+            for (int i = Math.min(hi, next); i >= lo; i--) {
+                if (earlyExit) {
+                    heapify(i, 0);
+                } else {
+                    mergeAt(i, n, 0);
+                }
+            }
+
+            next = Math.min(next, lo - 1);
+            if (lo == 0) {
+                break;
+            }
+            lo = parentOf(lo);
+            hi = parentOf(hi);
         }
     }
 
     /**
      * Merge operation (min-heap version of McDiarmid & Reed "Merge").
      * Trickle an empty slot down the smaller-child path to a leaf,
-     * then bubble-up the stored element.
+     * then bubble-up the stored element, no higher than the root of the merged subtree
+     * (the ancestors above it have not been merged yet).
      */
     private void mergeAt(int root, int n, int depth) {
         PerformanceTracker.updateRecursiveDepth(depth);
@@ -88,7 +261,7 @@ public class MinHeap<T extends Comparable<T>> implements IMinHeap<T> {
 
         // Bubble-up phase
         int bubbleDepth = 1;
-        while (pos > 0) {
+        while (pos > root) {
             PerformanceTracker.updateRecursiveDepth(depth + bubbleDepth);
             int parent = parentOf(pos);
 
@@ -126,10 +299,14 @@ public class MinHeap<T extends Comparable<T>> implements IMinHeap<T> {
                 throw new IllegalArgumentException("You are increasing the key instead of decreasing it");
             }
 
+            DecreaseKeyEvent event = new DecreaseKeyEvent();
+            event.start(this, list.size());
+
             list.set(index, newElement);
             PerformanceTracker.incrementArrayAccesses(2);
 
             traverseUp(index, 0);
+            event.finish();
         } finally {
             PerformanceTracker.stop();
             PerformanceTracker.writeToCSV("metrics.csv");
@@ -137,15 +314,23 @@ public class MinHeap<T extends Comparable<T>> implements IMinHeap<T> {
     }
 
     /**
-     * Merges specified heap into current heap.
+     * Merges specified heap into current heap. <br>
+     * The whole list is rebuilt, unless the heap was constructed adaptive: then only the appended elements
+     * and their ancestors are rebuilt, so the current list must be heap-ordered and callers that edit
+     * {@link #getHeap()} in place have to restore the heap before merging.
      * @param minHeap the specified min heap.
      */
     @Override
     public void mergeHeaps(List<T> minHeap) {
        PerformanceTracker.start("mergeHeaps(single)", list.size());
         try {
+            MergeHeapsEvent event = new MergeHeapsEvent();
+            event.start(this, list.size());
+
+            int heapPrefix = list.size();
             list.addAll(minHeap);
-            buildHeapFast();
+            buildHeapFast(heapPrefix);
+            event.finish();
         } finally {
           PerformanceTracker.stop();
           PerformanceTracker.writeToCSV("metrics.csv");
@@ -159,10 +344,14 @@ public class MinHeap<T extends Comparable<T>> implements IMinHeap<T> {
      */
     @Override
     public void mergeHeaps(List<T> firstHeap, List<T> secondHeap) {
+        MergeHeapsEvent event = new MergeHeapsEvent();
+        event.start(this, list.size());
+
         list.clear();
         list.addAll(firstHeap);
         list.addAll(secondHeap);
         buildHeapFast();
+        event.finish();
     }
 
     @Override
@@ -198,8 +387,12 @@ public class MinHeap<T extends Comparable<T>> implements IMinHeap<T> {
         }
 
         if (index != -1) {
+            DecreaseKeyEvent event = new DecreaseKeyEvent();
+            event.start(this, list.size());
+
             list.set(index, newElement);
             traverseUp(index, 0);
+            event.finish();
         } else {
             throw new NoSuchElementException(element + " is not found");
         }
@@ -211,8 +404,12 @@ public class MinHeap<T extends Comparable<T>> implements IMinHeap<T> {
      */
     @Override
     public void insert(T element) {
+        InsertEvent event = new InsertEvent();
+        event.start(this, list.size());
+
         list.add(element);
         traverseUp(list.size() - 1, 0);
+        event.finish();
     }
 
     /**
@@ -238,14 +435,306 @@ public class MinHeap<T extends Comparable<T>> implements IMinHeap<T> {
             throw new IndexOutOfBoundsException("List is empty");
         }
 
+        ExtractMinEvent event = new ExtractMinEvent();
+        event.start(this, list.size());
+
         T min = getMin();
         list.set(0, list.getLast());
         list.removeLast();
         heapify(0, 0);
+        event.finish();
 
         return min;
     }
 
+    /**
+     * Inserts all elements of the batch. <br>
+     * The batch is sorted and appended, so the new elements are heap-ordered among themselves and only
+     * their old ancestors can violate the heap property. Those are sifted down level by level from the
+     * bottom; the subtrees of one level are disjoint, so large levels are sifted in parallel on the
+     * common {@link ForkJoinPool}. The resulting heap holds the same elements as after inserting them
+     * one by one, and extracts them in the same order.
+     * @param batch elements to insert, not modified.
+     */
+    public void insertBatch(T[] batch) {
+        if (batch.length == 0) {
+            return;
+        }
+
+        InsertBatchEvent event = new InsertBatchEvent();
+        event.start(this, list.size());
+        event.setBatchSize(batch.length);
+
+        T[] sorted = batch.clone();
+        Arrays.parallelSort(sorted);
+        PerformanceTracker.incrementArrayAccesses(sorted.length);
+
+        int first = list.size();
+        list.addAll(Arrays.asList(sorted));
+        int n = list.size();
+
+        // Old nodes with a new child or an already rebuilt child, one level at a time from the bottom
+        int[] rebuilt = new int[0];
+        for (int depth = depthOf(n - 1); depth > 0 && first > 0; depth--) {
+            int levelStart = (1 << depth) - 1;
+            int newFrom = Math.max(first, levelStart);
+            int newTo = Math.min(n - 1, 2 * levelStart);
+
+            int[] parents = new int[(newFrom <= newTo ? parentOf(newTo) - parentOf(newFrom) + 1 : 0) + rebuilt.length];
+            int count = 0;
+            int r = 0;
+            int next = newFrom <= newTo ? parentOf(newFrom) : Integer.MAX_VALUE;
+            int last = newFrom <= newTo ? parentOf(newTo) : -1;
+            while (next <= last || r < rebuilt.length) {
+                int parent;
+                if (r < rebuilt.length && (next > last || parentOf(rebuilt[r]) < next)) {
+                    parent = parentOf(rebuilt[r++]);
+                } else {
+                    parent = next++;
+                }
+                if (parent < first && (count == 0 || parents[count - 1] != parent)) {
+                    parents[count++] = parent;
+                }
+            }
+
+            rebuilt = Arrays.copyOf(parents, count);
+            siftDownAll(rebuilt, 0, count);
+        }
+
+        event.finish();
+    }
+
+    /**
+     * Extracts the k smallest elements. <br>
+     * The k smallest form a subtree at the top of the heap; they are selected best-first, which also
+     * returns them in order. The last elements of the array fill the vacated slots, which are then sifted
+     * down level by level from the bottom, large levels in parallel on the common {@link ForkJoinPool}.
+     * The result is the same as calling {@link #extractMin()} k times: the same elements in the same
+     * order, except that elements which compare equal may come out in a different order.
+     * @param k number of elements to extract.
+     * @return the k smallest elements in ascending order.
+     * @throws IllegalArgumentException if k is negative.
+     * @throws IndexOutOfBoundsException if the heap has fewer than k elements.
+     */
+    public List<T> extractMinBatch(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Batch size must not be negative, got " + k);
+        }
+        if (k > list.size()) {
+            throw new IndexOutOfBoundsException("Cannot extract " + k + " elements from " + list.size());
+        }
+
+        List<T> extracted = new ArrayList<>(k);
+        if (k == 0) {
+            return extracted;
+        }
+
+        ExtractMinBatchEvent event = new ExtractMinBatchEvent();
+        event.start(this, list.size());
+        event.setBatchSize(k);
+
+        // Best-first selection: a node is a candidate once its parent has been selected
+        int[] selected = new int[k];
+        int[] frontier = new int[k + 1];
+        int frontierSize = 1;
+        int n = list.size();
+        for (int i = 0; i < k; i++) {
+            int index = frontier[0];
+            selected[i] = index;
+            extracted.add(list.get(index));
+
+            // Replace the selected node by its left child, then add the right child
+            if (leftChildOf(index) < n) {
+                frontierReplaceTop(frontier, frontierSize, leftChildOf(index));
+                if (rightChildOf(index) < n) {
+                    frontierAdd(frontier, frontierSize++, rightChildOf(index));
+                }
+            } else {
+                frontierReplaceTop(frontier, --frontierSize, frontier[frontierSize]);
+            }
+        }
+
+        // Move the unselected elements of the last k slots into the selected slots before them
+        int m = n - k;
+        boolean[] selectedInTail = new boolean[k];
+        for (int index : selected) {
+            if (index >= m) {
+                selectedInTail[index - m] = true;
+            }
+        }
+        Arrays.sort(selected);
+        int filler = m;
+        for (int i = 0; i < k && selected[i] < m; i++) {
+            while (selectedInTail[filler - m]) {
+                filler++;
+            }
+            list.set(selected[i], list.get(filler++));
+            PerformanceTracker.incrementArrayAccesses(2);
+        }
+        list.subList(m, n).clear();
+
+        // The refilled slots are closed under parent, sift them down deepest level first
+        int end = 0;
+        while (end < k && selected[end] < m) {
+            end++;
+        }
+        while (end > 0) {
+            int levelStart = (1 << depthOf(selected[end - 1])) - 1;
+            int start = end;
+            while (start > 0 && selected[start - 1] >= levelStart) {
+                start--;
+            }
+            siftDownAll(selected, start, end);
+            end = start;
+        }
+
+        event.finish();
+        return extracted;
+    }
+
+    /**
+     * Adds a heap index to the selection frontier of {@link #extractMinBatch(int)},
+     * a binary heap of indexes ordered by the elements at those indexes.
+     */
+    private void frontierAdd(int[] frontier, int size, int index) {
+        T x = list.get(index);
+        int pos = size;
+        while (pos > 0) {
+            int parent = parentOf(pos);
+            PerformanceTracker.incrementComparisons(1);
+            PerformanceTracker.incrementArrayAccesses(1);
+            if (x.compareTo(list.get(frontier[parent])) >= 0) {
+                break;
+            }
+            frontier[pos] = frontier[parent];
+            pos = parent;
+        }
+        frontier[pos] = index;
+    }
+
+    /**
+     * Replaces the smallest index of the selection frontier and sifts the new one down.
+     */
+    private void frontierReplaceTop(int[] frontier, int size, int index) {
+        T x = list.get(index);
+        int pos = 0;
+        while (leftChildOf(pos) < size) {
+            int smallest = leftChildOf(pos);
+            T child = list.get(frontier[smallest]);
+            if (smallest + 1 < size) {
+                T right = list.get(frontier[smallest + 1]);
+                PerformanceTracker.incrementComparisons(1);
+                if (right.compareTo(child) < 0) {
+                    smallest++;
+                    child = right;
+                }
+            }
+
+            PerformanceTracker.incrementComparisons(1);
+            PerformanceTracker.incrementArrayAccesses(2);
+            if (x.compareTo(child) <= 0) {
+                break;
+            }
+            frontier[pos] = frontier[smallest];
+            pos = smallest;
+        }
+        frontier[pos] = index;
+    }
+
+    /**
+     * Sifts down the nodes in the specified range, which must be roots of disjoint subtrees. <br>
+     * Large ranges are split across the common {@link ForkJoinPool}; the counters of the tasks are added
+     * to {@link PerformanceTracker} afterwards on this thread, since the tracker is not thread-safe.
+     */
+    private void siftDownAll(int[] nodes, int from, int to) {
+        SiftDownTask task = new SiftDownTask(nodes, from, to);
+        if (to - from < PARALLEL_LEVEL_THRESHOLD) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+
+        PerformanceTracker.incrementComparisons(task.comparisons);
+        PerformanceTracker.incrementSwaps(task.moves);
+        PerformanceTracker.incrementArrayAccesses(task.arrayAccesses);
+        PerformanceTracker.updateRecursiveDepth(task.depth);
+    }
+
+    /**
+     * Sift-down of a range of disjoint subtree roots, splitting in halves while the range is large.
+     * Counts its own metrics instead of updating {@link PerformanceTracker}.
+     */
+    private final class SiftDownTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int[] nodes;
+        private final int from;
+        private final int to;
+        private long comparisons;
+        private long moves;
+        private long arrayAccesses;
+        private int depth;
+
+        SiftDownTask(int[] nodes, int from, int to) {
+            this.nodes = nodes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from >= PARALLEL_LEVEL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                SiftDownTask left = new SiftDownTask(nodes, from, middle);
+                SiftDownTask right = new SiftDownTask(nodes, middle, to);
+                invokeAll(left, right);
+
+                comparisons = left.comparisons + right.comparisons;
+                moves = left.moves + right.moves;
+                arrayAccesses = left.arrayAccesses + right.arrayAccesses;
+                depth = Math.max(left.depth, right.depth);
+                return;
+            }
+
+            int n = list.size();
+            for (int i = from; i < to; i++) {
+                int pos = nodes[i];
+                T x = list.get(pos);
+                int levels = 0;
+
+                while (leftChildOf(pos) < n) {
+                    int smallest = leftChildOf(pos);
+                    T child = list.get(smallest);
+                    if (smallest + 1 < n) {
+                        T right = list.get(smallest + 1);
+                        comparisons++;
+                        if (right.compareTo(child) < 0) {
+                            smallest++;
+                            child = right;
+                        }
+                    }
+
+                    comparisons++;
+                    arrayAccesses += 2;
+                    if (x.compareTo(child) <= 0) {
+                        break;
+                    }
+
+                    list.set(pos, child);
+                    moves++;
+                    arrayAccesses++;
+                    pos = smallest;
+                    levels++;
+                }
+
+                list.set(pos, x);
+                arrayAccesses += 2;
+                depth = Math.max(depth, levels);
+            }
+        }
+    }
+
     /**
      * Builds min heap. <br>
      * This function should only be called when parametrized constructor is used.
@@ -273,15 +762,12 @@ public class MinHeap<T extends Comparable<T>> implements IMinHeap<T> {
         int leftChildIndex = leftChildOf(index);
         int rightChildIndex = rightChildOf(index);
 
-        PerformanceTracker.incrementArrayAccesses(2);
-
-        if (leftChildOf(index) < size && list.get(smallest).compareTo(list.get(leftChildIndex)) > 0) {
-            PerformanceTracker.incrementComparisons(1);
+        // compare() counts every comparison, including the ones that end the sift
+        if (leftChildIndex < size && compare(smallest, leftChildIndex) > 0) {
             smallest = leftChildIndex;
         }
 
-        if (rightChildIndex < size && list.get(smallest).compareTo(list.get(rightChildIndex)) > 0) {
-            PerformanceTracker.incrementComparisons(1);
+        if (rightChildIndex < size && compare(smallest, rightChildIndex) > 0) {
             smallest = rightChildIndex;
         }
 
@@ -333,6 +819,15 @@ public class MinHeap<T extends Comparable<T>> implements IMinHeap<T> {
         return (index - 1) / 2;
     }
 
+    /**
+     * Returns depth of a node, the root being at depth 0.
+     * @param index node's index.
+     * @return Node's depth.
+     */
+    private static int depthOf(int index) {
+        return 31 - Integer.numberOfLeadingZeros(index + 1);
+    }
+
     /**
      * Returns right child index of a node.
      * @param index node's index.
@@ -351,6 +846,26 @@ public class MinHeap<T extends Comparable<T>> implements IMinHeap<T> {
         return 2 * index + 1;
     }
 
+    /**
+     * Compares elements in specified two indexes, counting the comparison.
+     * @return negative, zero or positive as the first element is less than, equal to or greater than the second.
+     */
+    private int compare(int indexOne, int indexTwo) {
+        PerformanceTracker.incrementComparisons(1);
+        PerformanceTracker.incrementArrayAccesses(2);
+        return list.get(indexOne).compareTo(list.get(indexTwo));
+    }
+
+    /**
+     * Reverses the elements between two indexes, both inclusive.
+     */
+    private void reverse(int from, int to) {
+        while (from < to) {
+            swap(from++, to--);
+            PerformanceTracker.incrementSwaps(1);
+        }
+    }
+
     /**
      * Swaps elements in specified two indexes.
      * @param indexOne Index of the first element.
@@ -0,0 +1,476 @@
+package org.example.algorithms.impl;
+
+import org.example.algorithms.IMinHeap;
+import org.example.metrics.PerformanceTracker;
+import org.example.metrics.jfr.BuildHeapEvent;
+import org.example.metrics.jfr.DecreaseKeyEvent;
+import org.example.metrics.jfr.ExtractMinEvent;
+import org.example.metrics.jfr.InsertEvent;
+import org.example.metrics.jfr.MergeHeapsEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Min Heap stored in fixed-size chunks and addressed by {@code long} index. <br>
+ * Logically this is the same binary heap as {@link MinHeap}, but the elements are not kept in one
+ * contiguous array: growing adds a chunk instead of copying everything into a larger array, so there is
+ * no pause proportional to the heap size at growth points, and the heap is not limited to 2^31 elements.
+ * Only the small list of chunk references is ever copied.
+ * <p>
+ * Trailing chunks are released as the heap shrinks. One empty chunk is kept as a spare, so alternating
+ * insert/extract at a chunk boundary does not allocate and release the same chunk over and over.
+ * <p>
+ * {@link #size()} and {@link #getHeap()} are limited by the {@link IMinHeap} interface to int;
+ * use {@link #longSize()} and {@link #decreaseKey(long, Comparable)} on larger heaps.
+ */
+public class SegmentedMinHeap<T extends Comparable<T>> implements IMinHeap<T> {
+    /**
+     * 65536 references per chunk: 256 KiB with compressed oops.
+     */
+    public static final int DEFAULT_CHUNK_BITS = 16;
+
+    // Physical Data Structure
+    private final List<Object[]> chunks = new ArrayList<>();
+    private long size;
+
+    private final int chunkBits;
+    private final int chunkMask;
+
+    /**
+     * Default constructor that uses 65536-element chunks.
+     */
+    public SegmentedMinHeap() {
+        this(DEFAULT_CHUNK_BITS);
+    }
+
+    /**
+     * Parametrized constructor that sets the chunk size.
+     * @param chunkBits log2 of the number of elements per chunk.
+     * @throws IllegalArgumentException if chunkBits is not between 1 and 30.
+     */
+    public SegmentedMinHeap(int chunkBits) {
+        if (chunkBits < 1 || chunkBits > 30) {
+            throw new IllegalArgumentException("Chunk bits must be between 1 and 30, got " + chunkBits);
+        }
+        this.chunkBits = chunkBits;
+        this.chunkMask = (1 << chunkBits) - 1;
+    }
+
+    /**
+     * Parametrized constructor that builds the heap from the specified list.
+     * @param list the elements of the heap.
+     */
+    public SegmentedMinHeap(List<T> list) {
+        this();
+        appendAll(list);
+        buildHeapFast();
+    }
+
+    /**
+     * Parametrized constructor that initializes with both heaps.
+     * @param firstHeap the first heap.
+     * @param secondHeap the second heap.
+     */
+    public SegmentedMinHeap(List<T> firstHeap, List<T> secondHeap) {
+        this();
+        mergeHeaps(firstHeap, secondHeap);
+    }
+
+    @Override
+    public void insert(T element) {
+        InsertEvent event = new InsertEvent();
+        event.start(this, size());
+
+        ensureCapacity(size + 1);
+        size++;
+        traverseUp(size - 1, element);
+        event.finish();
+    }
+
+    @Override
+    public T extractMin() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("Heap is empty");
+        }
+
+        ExtractMinEvent event = new ExtractMinEvent();
+        event.start(this, size());
+
+        T min = get(0);
+        size--;
+        T last = get(size);
+        set(size, null);
+        if (size > 0) {
+            heapify(0, last);
+        }
+        releaseTrailingChunks();
+        event.finish();
+
+        return min;
+    }
+
+    @Override
+    public T getMin() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("Heap is empty");
+        }
+
+        return get(0);
+    }
+
+    /**
+     * Decreases specified element to the new element.
+     * @throws IllegalArgumentException If you are increasing the key instead of decreasing it.
+     * @throws NoSuchElementException If the element you specified does not exist.
+     * @param element element to change.
+     * @param newElement element to decrease into.
+     */
+    @Override
+    public void decreaseKey(T element, T newElement) {
+        if (element.compareTo(newElement) < 0) {
+            throw new IllegalArgumentException("You are increasing the key instead of decreasing it");
+        }
+
+        for (long i = 0; i < size; i++) {
+            if (get(i).compareTo(element) == 0) {
+                DecreaseKeyEvent event = new DecreaseKeyEvent();
+                event.start(this, size());
+
+                traverseUp(i, newElement);
+                event.finish();
+                return;
+            }
+        }
+
+        throw new NoSuchElementException(element + " is not found");
+    }
+
+    /**
+     * Decreases element at the index to the new element.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     * @throws IllegalArgumentException if the new element is higher than the element at the specified index.
+     * @param index the index of the element to change.
+     * @param newElement the element to decrease into.
+     */
+    @Override
+    public void decreaseKey(int index, T newElement) {
+        decreaseKey((long) index, newElement);
+    }
+
+    /**
+     * Decreases element at the long index to the new element.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     * @throws IllegalArgumentException if the new element is higher than the element at the specified index.
+     * @param index the index of the element to change.
+     * @param newElement the element to decrease into.
+     */
+    public void decreaseKey(long index, T newElement) {
+        PerformanceTracker.start("decreaseKey(index)[segmented]", size());
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("The " + index + " is out of bounds");
+            }
+
+            if (get(index).compareTo(newElement) < 0) {
+                throw new IllegalArgumentException("You are increasing the key instead of decreasing it");
+            }
+
+            DecreaseKeyEvent event = new DecreaseKeyEvent();
+            event.start(this, size());
+
+            PerformanceTracker.incrementArrayAccesses(2);
+
+            traverseUp(index, newElement);
+            event.finish();
+        } finally {
+            PerformanceTracker.stop();
+            PerformanceTracker.writeToCSV("metrics.csv");
+        }
+    }
+
+    /**
+     * Merges specified heap into current heap.
+     * @param minHeap the specified min heap.
+     */
+    @Override
+    public void mergeHeaps(List<T> minHeap) {
+        PerformanceTracker.start("mergeHeaps(single)[segmented]", size());
+        try {
+            MergeHeapsEvent event = new MergeHeapsEvent();
+            event.start(this, size());
+
+            appendAll(minHeap);
+            buildHeapFast();
+            event.finish();
+        } finally {
+            PerformanceTracker.stop();
+            PerformanceTracker.writeToCSV("metrics.csv");
+        }
+    }
+
+    /**
+     * Clears current heap and rebuilds it from both specified heaps.
+     * @param firstHeap the first heap.
+     * @param secondHeap the second heap.
+     */
+    @Override
+    public void mergeHeaps(List<T> firstHeap, List<T> secondHeap) {
+        MergeHeapsEvent event = new MergeHeapsEvent();
+        event.start(this, size());
+
+        // Reuse the chunks: overwrite from the start, then clear what is left of the old elements
+        long oldSize = size;
+        size = 0;
+        appendAll(firstHeap);
+        appendAll(secondHeap);
+        for (long i = size; i < oldSize; i++) {
+            set(i, null);
+        }
+        releaseTrailingChunks();
+        buildHeapFast();
+        event.finish();
+    }
+
+    /**
+     * @return the number of elements, or {@link Integer#MAX_VALUE} if there are more.
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the number of elements.
+     */
+    public long longSize() {
+        return size;
+    }
+
+    /**
+     * Returns the heap in logical (breadth-first) order. <br>
+     * Unlike {@link MinHeap#getHeap()} this is a snapshot, changes to it do not affect the heap.
+     * @return Returns heap as a list.
+     * @throws IllegalStateException if the heap has more elements than a list can hold.
+     */
+    @Override
+    public List<T> getHeap() {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Heap of " + size + " elements does not fit in a list");
+        }
+
+        List<T> heap = new ArrayList<>((int) size);
+        for (long i = 0; i < size; i++) {
+            heap.add(get(i));
+        }
+        return heap;
+    }
+
+    /**
+     * @return number of chunks currently allocated.
+     */
+    public int getChunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * @return number of elements per chunk.
+     */
+    public int getChunkSize() {
+        return chunkMask + 1;
+    }
+
+    /**
+     * Appends elements in logical order without restoring the heap property.
+     */
+    private void appendAll(List<T> elements) {
+        ensureCapacity(size + elements.size());
+        for (T element : elements) {
+            set(size++, element);
+        }
+    }
+
+    /**
+     * Adds chunks until the specified number of elements fits. Existing chunks are never copied.
+     */
+    private void ensureCapacity(long count) {
+        while (((long) chunks.size() << chunkBits) < count) {
+            chunks.add(new Object[chunkMask + 1]);
+        }
+    }
+
+    /**
+     * Releases the chunks after the last used one, keeping one empty spare.
+     */
+    private void releaseTrailingChunks() {
+        long used = (size + chunkMask) >>> chunkBits;
+        while (chunks.size() > used + 1) {
+            chunks.remove(chunks.size() - 1);
+        }
+    }
+
+    /**
+     * In-place heap construction using the McDiarmid–Reed algorithm.
+     */
+    private void buildHeapFast() {
+        BuildHeapEvent event = new BuildHeapEvent();
+        event.start(this, size());
+
+        for (long i = parentOf(size - 1); i >= 0; i--) {
+            mergeAt(i);
+        }
+
+        event.finish();
+    }
+
+    /**
+     * Merge operation (min-heap version of McDiarmid & Reed "Merge").
+     * Trickle an empty slot down the smaller-child path to a leaf,
+     * then bubble the stored element back up, no higher than the root.
+     */
+    private void mergeAt(long root) {
+        long pos = root;
+        T x = get(pos);
+        int depth = 0;
+
+        // Trickle empty slot down
+        while (leftChildOf(pos) < size) {
+            long smaller = leftChildOf(pos);
+
+            PerformanceTracker.incrementArrayAccesses(2);
+            if (smaller + 1 < size) {
+                PerformanceTracker.incrementComparisons(1);
+                if (get(smaller + 1).compareTo(get(smaller)) < 0) {
+                    smaller++;
+                }
+            }
+
+            PerformanceTracker.incrementArrayAccesses(2);
+            set(pos, get(smaller));
+            pos = smaller;
+            depth++;
+        }
+        PerformanceTracker.updateRecursiveDepth(depth);
+
+        // Bubble-up phase
+        while (pos > root) {
+            long parent = parentOf(pos);
+            T parentElement = get(parent);
+
+            PerformanceTracker.incrementComparisons(1);
+            PerformanceTracker.incrementArrayAccesses(1);
+            if (x.compareTo(parentElement) >= 0) {
+                break;
+            }
+
+            set(pos, parentElement);
+            PerformanceTracker.incrementSwaps(1);
+            PerformanceTracker.incrementArrayAccesses(1);
+            pos = parent;
+        }
+
+        set(pos, x);
+        PerformanceTracker.incrementArrayAccesses(1);
+    }
+
+    /**
+     * Sift-down of the specified element from the specified index,
+     * stopping as soon as the heap property holds.
+     * @param index index to start heapifying from.
+     * @param x element to place.
+     */
+    private void heapify(long index, T x) {
+        long pos = index;
+        int depth = 0;
+
+        while (leftChildOf(pos) < size) {
+            long smallest = leftChildOf(pos);
+            T child = get(smallest);
+
+            PerformanceTracker.incrementArrayAccesses(2);
+            if (smallest + 1 < size) {
+                T right = get(smallest + 1);
+                PerformanceTracker.incrementComparisons(1);
+                if (right.compareTo(child) < 0) {
+                    smallest++;
+                    child = right;
+                }
+            }
+
+            PerformanceTracker.incrementComparisons(1);
+            if (x.compareTo(child) <= 0) {
+                break;
+            }
+
+            set(pos, child);
+            PerformanceTracker.incrementSwaps(1);
+            PerformanceTracker.incrementArrayAccesses(1);
+            pos = smallest;
+            depth++;
+        }
+
+        set(pos, x);
+        PerformanceTracker.updateRecursiveDepth(depth);
+    }
+
+    /**
+     * Sift-up of the specified element from the specified index.
+     * @param index index of the element being inserted.
+     * @param x element to place.
+     */
+    private void traverseUp(long index, T x) {
+        long pos = index;
+        int depth = 0;
+
+        while (pos > 0) {
+            long parent = parentOf(pos);
+            T parentElement = get(parent);
+
+            PerformanceTracker.incrementArrayAccesses(1);
+            PerformanceTracker.incrementComparisons(1);
+            if (x.compareTo(parentElement) > 0) {
+                break;
+            }
+
+            set(pos, parentElement);
+            PerformanceTracker.incrementSwaps(1);
+            PerformanceTracker.incrementArrayAccesses(1);
+            pos = parent;
+            depth++;
+        }
+
+        set(pos, x);
+        PerformanceTracker.updateRecursiveDepth(depth);
+    }
+
+    /**
+     * Element at the specified index: chunk {@code index >>> chunkBits}, offset {@code index & chunkMask}.
+     */
+    @SuppressWarnings("unchecked")
+    private T get(long index) {
+        return (T) chunks.get((int) (index >>> chunkBits))[(int) index & chunkMask];
+    }
+
+    private void set(long index, T element) {
+        chunks.get((int) (index >>> chunkBits))[(int) index & chunkMask] = element;
+    }
+
+    /**
+     * Returns parent index of a node.
+     * @param index node's index.
+     * @return Node's parent index.
+     */
+    private long parentOf(long index) {
+        return (index - 1) / 2;
+    }
+
+    /**
+     * Returns left child index of a node, computed in long so it cannot overflow.
+     * @param index node's index.
+     * @return Node's left child index.
+     */
+    private long leftChildOf(long index) {
+        return 2 * index + 1;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.algorithms.impl;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Child selection with the Vector API: the children are loaded in as few vectors as the CPU allows,
+ * reduced with a lane-wise min, and the position of the minimum is found with a lane-wise compare. <br>
+ * Loaded only through {@link VectorSupport}.
+ */
+final class VectorIntChildSelector implements IntChildSelector {
+    private final VectorSpecies<Integer> species;
+    private final int arity;
+
+    VectorIntChildSelector(int arity) {
+        int lanes = Math.min(arity, IntVector.SPECIES_PREFERRED.length());
+        this.species = VectorSpecies.of(int.class, VectorShape.forBitSize(lanes * Integer.SIZE));
+        this.arity = arity;
+    }
+
+    @Override
+    public int minChild(int[] slots, int first) {
+        int lanes = species.length();
+        IntVector min = IntVector.fromArray(species, slots, first);
+        if (lanes == arity) {
+            return first + min.eq(min.reduceLanes(VectorOperators.MIN)).firstTrue();
+        }
+        for (int i = lanes; i < arity; i += lanes) {
+            min = min.min(IntVector.fromArray(species, slots, first + i));
+        }
+        int value = min.reduceLanes(VectorOperators.MIN);
+
+        for (int i = 0; i < arity - lanes; i += lanes) {
+            int lane = IntVector.fromArray(species, slots, first + i).eq(value).firstTrue();
+            if (lane < lanes) {
+                return first + i + lane;
+            }
+        }
+        return first + arity - lanes + IntVector.fromArray(species, slots, first + arity - lanes).eq(value).firstTrue();
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.algorithms.impl;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Child selection with the Vector API: the children are loaded in as few vectors as the CPU allows,
+ * reduced with a lane-wise min, and the position of the minimum is found with a lane-wise compare. <br>
+ * Loaded only through {@link VectorSupport}.
+ */
+final class VectorLongChildSelector implements LongChildSelector {
+    private final VectorSpecies<Long> species;
+    private final int arity;
+
+    VectorLongChildSelector(int arity) {
+        int lanes = Math.min(arity, LongVector.SPECIES_PREFERRED.length());
+        this.species = VectorSpecies.of(long.class, VectorShape.forBitSize(lanes * Long.SIZE));
+        this.arity = arity;
+    }
+
+    @Override
+    public int minChild(long[] slots, int first) {
+        int lanes = species.length();
+        LongVector min = LongVector.fromArray(species, slots, first);
+        if (lanes == arity) {
+            return first + min.eq(min.reduceLanes(VectorOperators.MIN)).firstTrue();
+        }
+        for (int i = lanes; i < arity; i += lanes) {
+            min = min.min(LongVector.fromArray(species, slots, first + i));
+        }
+        long value = min.reduceLanes(VectorOperators.MIN);
+
+        for (int i = 0; i < arity - lanes; i += lanes) {
+            int lane = LongVector.fromArray(species, slots, first + i).eq(value).firstTrue();
+            if (lane < lanes) {
+                return first + i + lane;
+            }
+        }
+        return first + arity - lanes + LongVector.fromArray(species, slots, first + arity - lanes).eq(value).firstTrue();
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.algorithms.impl;
+
+/**
+ * Loads the {@code jdk.incubator.vector} based child selectors. <br>
+ * The incubator module is only resolved when the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}, so the selector classes are loaded by name and only after
+ * the module has been found; without the module the heaps fall back to the scalar loop.
+ */
+final class VectorSupport {
+    private static final boolean AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private VectorSupport() {
+    }
+
+    static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * @param simpleName selector class in this package.
+     * @param arity children per node.
+     * @return a new selector, or null if it could not be loaded.
+     */
+    @SuppressWarnings("unchecked")
+    static <S> S load(String simpleName, int arity) {
+        try {
+            return (S) Class.forName(VectorSupport.class.getPackageName() + "." + simpleName)
+                    .getDeclaredConstructor(int.class)
+                    .newInstance(arity);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.cli;
+
+import org.example.algorithms.impl.MinHeap;
+import org.example.metrics.PerformanceTracker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap construction from presorted input: the adaptive build against the plain McDiarmid–Reed build. <br>
+ * Next to the time, the {@code comparisons} column reports the comparisons of one build,
+ * so the savings of each data type can be read off directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AdaptiveBuildBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int heapSize;
+
+    @Param({"random", "sorted", "reversed", "nearly_sorted"})
+    private String dataType;
+
+    @Param({"adaptive", "baseline"})
+    private String build;
+
+    private List<Integer> data;
+
+    /**
+     * Comparisons made by the last build. Assigned rather than accumulated,
+     * so the reported value is per build; the input is fixed for the whole trial.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long comparisons;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = new ArrayList<>(heapSize);
+        for (int value : MinHeapBenchmark.generateData(heapSize, dataType)) {
+            data.add(value);
+        }
+    }
+
+    @Benchmark
+    public MinHeap<Integer> testBuild(Counters counters) {
+        int enclosing = PerformanceTracker.beginWindow();
+        long before = PerformanceTracker.getTotalComparisons();
+        MinHeap<Integer> heap = new MinHeap<>(data, build.equals("adaptive"));
+        counters.comparisons = PerformanceTracker.getTotalComparisons() - before;
+        PerformanceTracker.endWindow(enclosing);
+        return heap;
+    }
+}
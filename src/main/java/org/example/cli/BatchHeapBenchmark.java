@@ -0,0 +1,88 @@
+package org.example.cli;
+
+import org.example.algorithms.impl.MinHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch operations of {@link MinHeap} against the same work done one element at a time. <br>
+ * Each invocation inserts a batch of keys above the last extracted one and then extracts as many,
+ * so the heap keeps its size, as a scheduler draining and refilling its queue would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class BatchHeapBenchmark {
+
+    @Param({"1000000"})
+    private int heapSize;
+
+    @Param({"16", "256", "4096", "65536"})
+    private int batchSize;
+
+    @Param({"batch", "sequential"})
+    private String mode;
+
+    private List<Integer> data;
+    private MinHeap<Integer> heap;
+    private int[] offsets;
+    private Integer[] batch;
+    private int base;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+
+        data = new ArrayList<>(heapSize);
+        for (int i = 0; i < heapSize; i++) {
+            data.add(random.nextInt(heapSize));
+        }
+
+        offsets = new int[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            offsets[i] = random.nextInt(heapSize);
+        }
+        batch = new Integer[batchSize];
+    }
+
+    /**
+     * Keys rise with every invocation, so the heap and the key base start over each iteration
+     * instead of drifting towards overflow on long runs.
+     */
+    @Setup(Level.Iteration)
+    public void resetHeap() {
+        heap = new MinHeap<>(data);
+        base = 0;
+    }
+
+    @Benchmark
+    public List<Integer> testInsertAndExtractBatch() {
+        for (int i = 0; i < batchSize; i++) {
+            batch[i] = base + offsets[i];
+        }
+
+        List<Integer> extracted;
+        if (mode.equals("batch")) {
+            heap.insertBatch(batch);
+            extracted = heap.extractMinBatch(batchSize);
+        } else {
+            for (Integer value : batch) {
+                heap.insert(value);
+            }
+            extracted = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                extracted.add(heap.extractMin());
+            }
+        }
+
+        base = extracted.getLast();
+        return extracted;
+    }
+}
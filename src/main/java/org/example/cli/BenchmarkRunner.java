@@ -1,5 +1,8 @@
 package org.example.cli;
 
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.profile.LinuxPerfNormProfiler;
+import org.openjdk.jmh.profile.ProfilerException;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.Options;
@@ -15,6 +18,7 @@ public class BenchmarkRunner {
         System.out.println("Run mode:");
         System.out.println("1 = Custom (choose heap size and data type)");
         System.out.println("2 = Full suite (run all sizes and data types)");
+        System.out.println("3 = Defaults (run each benchmark's own parameters)");
         System.out.print("Choice: ");
         int mode = Integer.parseInt(scanner.nextLine());
 
@@ -22,14 +26,28 @@ public class BenchmarkRunner {
         System.out.println("1 = Decrease Key");
         System.out.println("2 = Merge Heaps");
         System.out.println("3 = Both");
+        System.out.println("4 = Blocked layout (large heaps)");
+        System.out.println("5 = Concurrent heap (producer/consumer)");
+        System.out.println("6 = Adaptive build (comparisons per data type)");
+        System.out.println("7 = Primitive d-ary heaps (SIMD vs scalar)");
+        System.out.println("8 = Segmented heap (insert latency while growing)");
+        System.out.println("9 = Batch insert/extract (batch sizes 16..65536)");
+        System.out.println("10 = Memory footprint and allocation (all implementations)");
         System.out.print("Choice: ");
         int choice = Integer.parseInt(scanner.nextLine());
 
         String includePattern;
         switch (choice) {
-            case 1 -> includePattern = ".*testDecreaseKey.*";
-            case 2 -> includePattern = ".*testMergeHeaps.*";
-            case 3 -> includePattern = ".*MinHeapBenchmark.*";
+            case 1 -> includePattern = ".*\\.MinHeapBenchmark\\.testDecreaseKey";
+            case 2 -> includePattern = ".*\\.MinHeapBenchmark\\.testMergeHeaps";
+            case 3 -> includePattern = ".*\\.MinHeapBenchmark\\..*";
+            case 4 -> includePattern = ".*\\.BlockedMinHeapBenchmark\\..*";
+            case 5 -> includePattern = ".*\\.ConcurrentMinHeapBenchmark\\..*";
+            case 6 -> includePattern = ".*\\.AdaptiveBuildBenchmark\\..*";
+            case 7 -> includePattern = ".*\\.DaryHeapBenchmark\\..*";
+            case 8 -> includePattern = ".*\\.SegmentedMinHeapBenchmark\\..*";
+            case 9 -> includePattern = ".*\\.BatchHeapBenchmark\\..*";
+            case 10 -> includePattern = ".*\\.FootprintBenchmark\\..*";
             default -> {
                 System.out.println("Invalid benchmark choice");
                 return;
@@ -67,6 +85,7 @@ public class BenchmarkRunner {
                     .include(includePattern)
                     .param("heapSize", heapSize)
                     .param("dataType", dataType);
+            addProfilers(builder, choice);
 
             new Runner(builder.build()).run();
 
@@ -86,6 +105,7 @@ public class BenchmarkRunner {
                             .include(includePattern)
                             .param("heapSize", heapSize)
                             .param("dataType", dataType);
+                    addProfilers(builder, choice);
 
                     Options opt = builder.build();
                     new Runner(opt).run();
@@ -93,8 +113,36 @@ public class BenchmarkRunner {
             }
 
             System.out.println("\n Full benchmark en suite completed");
+        } else if (mode == 3) {
+            ChainedOptionsBuilder builder = new OptionsBuilder()
+                    .include(includePattern);
+            addProfilers(builder, choice);
+
+            new Runner(builder.build()).run();
         } else {
             System.out.println("Invalid mode selected");
         }
     }
+
+    /**
+     * Adds the GC profiler (bytes allocated per operation) to the footprint benchmarks, and the perfnorm
+     * profiler (cache/TLB misses per operation) to the layout benchmarks when Linux perf is available.
+     * Use {@link FootprintReport} to also get retained bytes per element and a CSV.
+     */
+    private static void addProfilers(ChainedOptionsBuilder builder, int choice) {
+        if (choice == 10) {
+            builder.addProfiler(GCProfiler.class);
+            return;
+        }
+        if (choice != 4) {
+            return;
+        }
+
+        try {
+            new LinuxPerfNormProfiler("");
+            builder.addProfiler(LinuxPerfNormProfiler.class);
+        } catch (ProfilerException e) {
+            System.out.println("perfnorm profiler unavailable, reporting time only: " + e.getMessage());
+        }
+    }
 }
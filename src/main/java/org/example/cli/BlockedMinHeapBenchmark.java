@@ -0,0 +1,68 @@
+package org.example.cli;
+
+import org.example.algorithms.IMinHeap;
+import org.example.algorithms.impl.BlockedMinHeap;
+import org.example.algorithms.impl.MinHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the breadth-first {@link MinHeap} layout with the page-blocked {@link BlockedMinHeap}
+ * on heaps that no longer fit in cache. <br>
+ * Each invocation is one "hold" operation (extractMin followed by an insert of a slightly larger key),
+ * so the heap keeps its size and every invocation walks the full depth. Run with
+ * {@code -prof perfnorm} on Linux to get cache and TLB misses per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class BlockedMinHeapBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    private int heapSize;
+
+    @Param({"binary", "blocked"})
+    private String layout;
+
+    private List<Integer> data;
+    private IMinHeap<Integer> heap;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        random = new Random(42);
+
+        data = new ArrayList<>(heapSize);
+        for (int i = 0; i < heapSize; i++) {
+            data.add(random.nextInt(heapSize));
+        }
+    }
+
+    /**
+     * Keys rise with every hold, so the heap starts over each iteration
+     * instead of drifting towards overflow on long runs.
+     */
+    @Setup(Level.Iteration)
+    public void resetHeap() {
+        heap = null;
+        switch (layout) {
+            case "binary" -> heap = new MinHeap<>(data);
+            case "blocked" -> heap = new BlockedMinHeap<>(data);
+            default -> throw new IllegalArgumentException("Wrong layout: " + layout);
+        }
+    }
+
+    @Benchmark
+    public Integer testHold() {
+        Integer min = heap.extractMin();
+        heap.insert(min + random.nextInt(heapSize));
+        return min;
+    }
+}
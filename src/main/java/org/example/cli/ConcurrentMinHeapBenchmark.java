@@ -0,0 +1,118 @@
+package org.example.cli;
+
+import org.example.algorithms.impl.ConcurrentMinHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producer/consumer hand-off through {@link ConcurrentMinHeap} and {@link PriorityBlockingQueue}. <br>
+ * The benchmark thread produces {@code items} elements in batches of {@code batchSize} while
+ * {@code consumers} virtual threads consume them, either one {@code take()} at a time
+ * ({@code batchSize = 1}) or with {@code drainTo(collection, batchSize)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ConcurrentMinHeapBenchmark {
+
+    @Param({"concurrentMinHeap", "priorityBlockingQueue"})
+    private String queueType;
+
+    @Param({"1", "4", "16"})
+    private int consumers;
+
+    @Param({"1", "64"})
+    private int batchSize;
+
+    @Param({"100000"})
+    private int items;
+
+    private int total;
+    private List<List<Integer>> batches;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        // Round items down so every consumer takes the same amount
+        total = items / consumers * consumers;
+
+        batches = new ArrayList<>();
+        for (int i = 0; i < total; i += batchSize) {
+            List<Integer> batch = new ArrayList<>(batchSize);
+            for (int j = i; j < Math.min(total, i + batchSize); j++) {
+                batch.add(random.nextInt(total));
+            }
+            batches.add(batch);
+        }
+    }
+
+    @Benchmark
+    public long testProducerConsumer() throws Exception {
+        BlockingQueue<Integer> queue = switch (queueType) {
+            case "concurrentMinHeap" -> new ConcurrentMinHeap<>();
+            case "priorityBlockingQueue" -> new PriorityBlockingQueue<>();
+            default -> throw new IllegalArgumentException("Wrong queue type: " + queueType);
+        };
+
+        int perConsumer = total / consumers;
+        long checksum = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int c = 0; c < consumers; c++) {
+                results.add(executor.submit(() -> consume(queue, perConsumer)));
+            }
+
+            for (List<Integer> batch : batches) {
+                if (batchSize == 1) {
+                    queue.put(batch.getFirst());
+                } else {
+                    queue.addAll(batch);
+                }
+            }
+
+            for (Future<Long> result : results) {
+                checksum += result.get();
+            }
+        }
+
+        return checksum;
+    }
+
+    private long consume(BlockingQueue<Integer> queue, int count) throws InterruptedException {
+        long sum = 0;
+        List<Integer> buffer = new ArrayList<>(batchSize);
+        int taken = 0;
+
+        while (taken < count) {
+            if (batchSize == 1) {
+                sum += queue.take();
+                taken++;
+                continue;
+            }
+
+            buffer.clear();
+            if (queue.drainTo(buffer, Math.min(batchSize, count - taken)) == 0) {
+                buffer.add(queue.take());
+            }
+            for (Integer value : buffer) {
+                sum += value;
+            }
+            taken += buffer.size();
+        }
+
+        return sum;
+    }
+}
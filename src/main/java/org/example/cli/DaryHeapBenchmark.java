@@ -0,0 +1,79 @@
+package org.example.cli;
+
+import org.example.algorithms.impl.IntDaryHeap;
+import org.example.algorithms.impl.LongDaryHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Vector API child search of {@link IntDaryHeap} / {@link LongDaryHeap} with the scalar loop
+ * on an extractMin-heavy workload. <br>
+ * Each invocation is one "hold" operation, as in {@link BlockedMinHeapBenchmark}: extractMin sifts down the
+ * full depth, and the insert of a slightly larger key usually stops within a level or two.
+ * The fork adds {@code jdk.incubator.vector}; the {@code scalar} runs ignore it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class DaryHeapBenchmark {
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    private int heapSize;
+
+    @Param({"8", "16"})
+    private int arity;
+
+    @Param({"vector", "scalar"})
+    private String selector;
+
+    private int[] ints;
+    private long[] longs;
+    private IntDaryHeap intHeap;
+    private LongDaryHeap longHeap;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        random = new Random(42);
+
+        ints = new int[heapSize];
+        longs = new long[heapSize];
+        for (int i = 0; i < heapSize; i++) {
+            ints[i] = random.nextInt(heapSize);
+            longs[i] = ints[i];
+        }
+    }
+
+    /**
+     * Keys rise with every hold, so the heaps start over each iteration
+     * instead of drifting towards int overflow on long runs.
+     */
+    @Setup(Level.Iteration)
+    public void resetHeaps() {
+        boolean vectorized = selector.equals("vector");
+        intHeap = new IntDaryHeap(ints, arity, vectorized);
+        longHeap = new LongDaryHeap(longs, arity, vectorized);
+        if (intHeap.isVectorized() != vectorized) {
+            throw new IllegalStateException("jdk.incubator.vector is not available in the benchmark JVM");
+        }
+    }
+
+    @Benchmark
+    public int testHoldInt() {
+        int min = intHeap.extractMin();
+        intHeap.insert(min + random.nextInt(heapSize));
+        return min;
+    }
+
+    @Benchmark
+    public long testHoldLong() {
+        long min = longHeap.extractMin();
+        longHeap.insert(min + random.nextInt(heapSize));
+        return min;
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.cli;
+
+import org.example.algorithms.IMinHeap;
+import org.example.algorithms.impl.BlockedMinHeap;
+import org.example.algorithms.impl.ConcurrentMinHeap;
+import org.example.algorithms.impl.LazyDeletionMinHeap;
+import org.example.algorithms.impl.MinHeap;
+import org.example.algorithms.impl.SegmentedMinHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs every {@link IMinHeap} implementation through the same heapSize/dataType matrix,
+ * for throughput and, with {@code -prof gc}, allocation per operation ({@code gc.alloc.rate.norm}). <br>
+ * {@code testInsert} grows the heap from heapSize for the whole iteration, so storage growth is included;
+ * {@code testExtractMin} re-inserts the extracted element, so the heap keeps its size;
+ * {@code testMergeHeaps} rebuilds the heap from the same two halves of the input.
+ * Inserted values are boxed in advance so boxing is not counted against the heap.
+ * The heaps are rebuilt per iteration; that garbage is spread over millions of operations.
+ * {@link FootprintReport} runs this matrix and adds the retained bytes per element.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+public class FootprintBenchmark {
+    private static final int POOL_SIZE = 4096;
+
+    @Param({"MinHeap", "BlockedMinHeap", "ConcurrentMinHeap", "LazyDeletionMinHeap", "SegmentedMinHeap"})
+    private String implementation;
+
+    @Param({"1000", "100000"})
+    private int heapSize;
+
+    @Param({"random", "sorted", "reversed", "nearly_sorted"})
+    private String dataType;
+
+    private List<Integer> data;
+    private List<Integer> firstHalf;
+    private List<Integer> secondHalf;
+    private Integer[] pool;
+    private int next;
+
+    private IMinHeap<Integer> heap;
+
+    @Setup(Level.Trial)
+    public void setupData() {
+        data = generateData(heapSize, dataType);
+        firstHalf = new ArrayList<>(data.subList(0, heapSize / 2));
+        secondHalf = new ArrayList<>(data.subList(heapSize / 2, heapSize));
+
+        pool = new Integer[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            pool[i] = data.get(i % heapSize);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setupHeap() {
+        heap = createHeap(implementation, data);
+    }
+
+    @Benchmark
+    public void testInsert() {
+        heap.insert(pool[next++ & (POOL_SIZE - 1)]);
+    }
+
+    @Benchmark
+    public Integer testExtractMin() {
+        Integer min = heap.extractMin();
+        heap.insert(min);
+        return min;
+    }
+
+    @Benchmark
+    public void testMergeHeaps() {
+        heap.mergeHeaps(firstHalf, secondHalf);
+    }
+
+    /**
+     * @return a heap of the named implementation built from the data.
+     */
+    static IMinHeap<Integer> createHeap(String implementation, List<Integer> data) {
+        return switch (implementation) {
+            case "MinHeap" -> new MinHeap<>(data);
+            case "BlockedMinHeap" -> new BlockedMinHeap<>(data);
+            case "ConcurrentMinHeap" -> new ConcurrentMinHeap<>(data);
+            case "LazyDeletionMinHeap" -> new LazyDeletionMinHeap<>(data);
+            case "SegmentedMinHeap" -> new SegmentedMinHeap<>(data);
+            default -> throw new IllegalArgumentException("Wrong implementation: " + implementation);
+        };
+    }
+
+    /**
+     * @return boxed data of the named type, as generated by {@link MinHeapBenchmark}.
+     */
+    static List<Integer> generateData(int size, String type) {
+        List<Integer> values = new ArrayList<>(size);
+        for (int value : MinHeapBenchmark.generateData(size, type)) {
+            values.add(value);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.cli;
+
+import org.example.metrics.ObjectGraphSizer;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Memory footprint and allocation matrix of all {@code IMinHeap} implementations. <br>
+ * Runs {@link FootprintBenchmark} with the GC profiler and prints one table with, per implementation,
+ * data type, size and operation: <br>
+ *  retained bytes per element, with and without the boxed elements themselves, measured by walking the
+ *  heap's object graph with {@link ObjectGraphSizer}; <br>
+ *  bytes allocated per operation ({@code gc.alloc.rate.norm}); <br>
+ *  operations per second. <br>
+ * The table is also written as CSV next to {@code docs/performance-plots.csv}.
+ * <pre>
+ * java --add-opens java.base/java.util=ALL-UNNAMED --add-opens java.base/java.util.concurrent.locks=ALL-UNNAMED \
+ *     -cp target/classes:target/dependency/* org.example.cli.FootprintReport [output.csv] [JMH options]
+ * </pre>
+ * JMH options narrow or shorten the run, e.g. {@code -p heapSize=1000 -wi 1 -i 1}.
+ */
+public class FootprintReport {
+    private static final Path DEFAULT_OUTPUT = Path.of("src/main/java/org/example/docs/footprint-matrix.csv");
+    private static final String[] HEADER = {"Implementation", "DataType", "Size", "Operation",
+            "RetainedBytesPerElement", "StructureBytesPerElement", "AllocBytesPerOp", "OpsPerSec"};
+
+    public static void main(String[] args) throws Exception {
+        boolean hasOutput = args.length > 0 && !args[0].startsWith("-");
+        Path output = hasOutput ? Path.of(args[0]) : DEFAULT_OUTPUT;
+        String[] jmhArgs = hasOutput ? Arrays.copyOfRange(args, 1, args.length) : args;
+
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+                .parent(new CommandLineOptions(jmhArgs))
+                .include(".*\\.FootprintBenchmark\\..*")
+                .addProfiler(GCProfiler.class);
+        Collection<RunResult> results = new Runner(builder.build()).run();
+
+        List<String[]> rows = toRows(results);
+        print(rows);
+        write(rows, output);
+        System.out.println("\nWritten to " + output);
+    }
+
+    private static List<String[]> toRows(Collection<RunResult> results) {
+        Map<String, double[]> footprints = new HashMap<>();
+        List<String[]> rows = new ArrayList<>();
+
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            String implementation = params.getParam("implementation");
+            String dataType = params.getParam("dataType");
+            int size = Integer.parseInt(params.getParam("heapSize"));
+            String benchmark = params.getBenchmark();
+            String operation = benchmark.substring(benchmark.lastIndexOf(".test") + ".test".length());
+
+            double[] footprint = footprints.computeIfAbsent(implementation + "/" + dataType + "/" + size,
+                    key -> measureFootprint(implementation, dataType, size));
+            Result<?> alloc = result.getSecondaryResults().get("gc.alloc.rate.norm");
+
+            rows.add(new String[]{
+                    implementation,
+                    dataType,
+                    String.valueOf(size),
+                    operation,
+                    String.format("%.1f", footprint[0]),
+                    String.format("%.1f", footprint[1]),
+                    alloc == null ? "" : String.format("%.1f", alloc.getScore()),
+                    String.format("%.0f", result.getPrimaryResult().getScore())
+            });
+        }
+
+        rows.sort(Comparator.<String[], String>comparing(row -> row[0])
+                .thenComparing(row -> row[1])
+                .thenComparingInt(row -> Integer.parseInt(row[2]))
+                .thenComparing(row -> row[3]));
+        return rows;
+    }
+
+    /**
+     * @return retained bytes per element, and the same without the element objects.
+     */
+    private static double[] measureFootprint(String implementation, String dataType, int size) {
+        List<Integer> data = FootprintBenchmark.generateData(size, dataType);
+        long retained = ObjectGraphSizer.deepSizeOf(FootprintBenchmark.createHeap(implementation, data));
+
+        Set<Object> elements = Collections.newSetFromMap(new IdentityHashMap<>());
+        elements.addAll(data);
+        long elementBytes = 0;
+        for (Object element : elements) {
+            elementBytes += ObjectGraphSizer.shallowSizeOf(element);
+        }
+
+        return new double[]{(double) retained / size, (double) (retained - elementBytes) / size};
+    }
+
+    private static void print(List<String[]> rows) {
+        String format = "%-20s %-14s %8s %-12s %12s %12s %12s %14s%n";
+        System.out.printf(format, "Implementation", "DataType", "Size", "Operation",
+                "Retained B/e", "Struct B/e", "Alloc B/op", "Ops/s");
+        for (String[] row : rows) {
+            System.out.printf(format, (Object[]) row);
+        }
+    }
+
+    private static void write(List<String[]> rows, Path output) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+            writer.println(String.join(",", HEADER));
+            for (String[] row : rows) {
+                writer.println(String.join(",", row));
+            }
+        }
+    }
+}
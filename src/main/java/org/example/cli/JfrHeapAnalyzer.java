@@ -0,0 +1,146 @@
+package org.example.cli;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Offline analyzer for recordings made with {@code jfr/heap-operations.jfc}. <br>
+ * Prints one line per heap operation and implementation: count, mean/max duration,
+ * mean heap size, mean comparisons and swaps, and the deepest level reached.
+ * <pre>
+ * java -cp target/classes org.example.cli.JfrHeapAnalyzer heap.jfr
+ * </pre>
+ */
+public class JfrHeapAnalyzer {
+    private static final String EVENT_PREFIX = "org.example.heap.";
+
+    /**
+     * Aggregated statistics of one operation on one heap implementation.
+     */
+    public static class OperationSummary {
+        private final String operation;
+        private final String implementation;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long totalHeapSize;
+        private long totalComparisons;
+        private long totalSwaps;
+        private int maxDepth;
+
+        OperationSummary(String operation, String implementation) {
+            this.operation = operation;
+            this.implementation = implementation;
+        }
+
+        void add(RecordedEvent event) {
+            long nanos = event.getDuration().toNanos();
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            totalHeapSize += event.getInt("heapSize");
+            totalComparisons += event.getLong("comparisons");
+            totalSwaps += event.getLong("swaps");
+            maxDepth = Math.max(maxDepth, event.getInt("depth"));
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public String getImplementation() {
+            return implementation;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMeanMicros() {
+            return totalNanos / 1000.0 / count;
+        }
+
+        public double getMaxMicros() {
+            return maxNanos / 1000.0;
+        }
+
+        public double getMeanHeapSize() {
+            return (double) totalHeapSize / count;
+        }
+
+        public double getMeanComparisons() {
+            return (double) totalComparisons / count;
+        }
+
+        public double getMeanSwaps() {
+            return (double) totalSwaps / count;
+        }
+
+        public int getMaxDepth() {
+            return maxDepth;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.out.println("Usage: JfrHeapAnalyzer <recording.jfr>");
+            return;
+        }
+
+        List<OperationSummary> summaries = summarize(Path.of(args[0]));
+        if (summaries.isEmpty()) {
+            System.out.println("No heap events found, was the recording made with jfr/heap-operations.jfc?");
+            return;
+        }
+
+        System.out.printf("%-12s %-20s %10s %12s %12s %12s %12s %10s %6s%n",
+                "Operation", "Implementation", "Count", "Mean(us)", "Max(us)",
+                "MeanSize", "MeanCmp", "MeanSwaps", "Depth");
+        for (OperationSummary summary : summaries) {
+            System.out.printf("%-12s %-20s %10d %12.3f %12.3f %12.1f %12.1f %10.1f %6d%n",
+                    summary.getOperation(),
+                    summary.getImplementation(),
+                    summary.getCount(),
+                    summary.getMeanMicros(),
+                    summary.getMaxMicros(),
+                    summary.getMeanHeapSize(),
+                    summary.getMeanComparisons(),
+                    summary.getMeanSwaps(),
+                    summary.getMaxDepth());
+        }
+    }
+
+    /**
+     * Reads a recording and aggregates its heap events.
+     * @param recording path of the .jfr file.
+     * @return summaries sorted by operation, then implementation.
+     * @throws IOException if the file cannot be read.
+     */
+    public static List<OperationSummary> summarize(Path recording) throws IOException {
+        Map<String, OperationSummary> summaries = new TreeMap<>();
+
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String name = event.getEventType().getName();
+                if (!name.startsWith(EVENT_PREFIX)) {
+                    continue;
+                }
+
+                String operation = name.substring(EVENT_PREFIX.length());
+                String implementation = event.getString("implementation");
+                summaries.computeIfAbsent(operation + "/" + implementation,
+                        key -> new OperationSummary(operation, implementation)).add(event);
+            }
+        }
+
+        return new ArrayList<>(summaries.values());
+    }
+}
@@ -53,7 +53,7 @@ public class MinHeapBenchmark {
         heap.mergeHeaps(otherHeap);
     }
 
-    private static int[] generateData(int size, String type) {
+    static int[] generateData(int size, String type) {
         int[] arr = new int[size];
         Random rand = new Random();
 
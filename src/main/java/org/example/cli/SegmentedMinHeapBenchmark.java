@@ -0,0 +1,48 @@
+package org.example.cli;
+
+import org.example.algorithms.IMinHeap;
+import org.example.algorithms.impl.MinHeap;
+import org.example.algorithms.impl.SegmentedMinHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert latency of a growing heap: the {@code ArrayList} backed {@link MinHeap} against the
+ * chunked {@link SegmentedMinHeap}. <br>
+ * Every iteration starts from an empty heap and keeps inserting ascending keys, so sift-up stops at once
+ * and the cost of growing the storage is what shows up. Iterations are one second long, which keeps the heap
+ * at a few tens of millions of elements, far from the 4 GB limit; JMH's default of ten seconds grew it
+ * past 100 million and one array copy away from running out of memory. Sample mode reports the latency distribution;
+ * compare the p99.99 and p100 columns, where the full-array copies of {@code ArrayList} appear
+ * (the remaining outliers of both are GC pauses, see {@code -prof gc}).
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SegmentedMinHeapBenchmark {
+
+    @Param({"arraylist", "segmented"})
+    private String storage;
+
+    private IMinHeap<Integer> heap;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        switch (storage) {
+            case "arraylist" -> heap = new MinHeap<>();
+            case "segmented" -> heap = new SegmentedMinHeap<>();
+            default -> throw new IllegalArgumentException("Wrong storage: " + storage);
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public void testGrowingInsert() {
+        heap.insert(next++);
+    }
+}
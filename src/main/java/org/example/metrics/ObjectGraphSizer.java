@@ -0,0 +1,202 @@
+package org.example.metrics;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates the retained size of an object graph: every object reachable from the root through
+ * instance fields and array elements, each counted once. <br>
+ * Object sizes are computed from the declared fields and the HotSpot object layout of the running JVM:
+ * a 12 byte header with compressed class pointers and 16 bytes without, 4 byte references with compressed
+ * oops and 8 bytes without, and the configured object alignment. Fields are assumed to be packed without
+ * gaps, so the few classes that HotSpot pads between fields are underestimated by up to 4 bytes. <br>
+ * References are followed with reflection, so fields of JDK classes are only walked when their package is
+ * opened, e.g. {@code --add-opens java.base/java.util=ALL-UNNAMED}; {@link #deepSizeOf} fails on a closed field
+ * rather than undercount the graph. <br>
+ * Classes, class loaders, modules and threads are shared with the rest of the JVM and are not walked.
+ */
+public final class ObjectGraphSizer {
+    private static final boolean COMPRESSED_OOPS = booleanOption("UseCompressedOops", true);
+    private static final boolean COMPRESSED_CLASS_POINTERS = booleanOption("UseCompressedClassPointers", true);
+    private static final int OBJECT_ALIGNMENT = intOption("ObjectAlignmentInBytes", 8);
+    private static final int OBJECT_HEADER = COMPRESSED_CLASS_POINTERS ? 12 : 16;
+    // The array length follows the header, and the elements start at the next 8 byte boundary
+    private static final int ARRAY_HEADER = (OBJECT_HEADER + 4 + 7) / 8 * 8;
+    private static final int REFERENCE_SIZE = COMPRESSED_OOPS ? 4 : 8;
+
+    private static final Map<Class<?>, ClassLayout> LAYOUTS = new IdentityHashMap<>();
+
+    private ObjectGraphSizer() {
+    }
+
+    /**
+     * @param root the object to measure.
+     * @return bytes retained by the root and everything reachable from it.
+     * @throws IllegalStateException if the graph reaches a reference field whose package is not opened to this class.
+     */
+    public static long deepSizeOf(Object root) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(root);
+        long total = 0;
+
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+            if (isShared(object) || !visited.add(object)) {
+                continue;
+            }
+
+            Class<?> type = object.getClass();
+            if (type.isArray()) {
+                total += arraySizeOf(object);
+                if (object instanceof Object[] elements) {
+                    for (Object element : elements) {
+                        if (element != null) {
+                            pending.push(element);
+                        }
+                    }
+                }
+                continue;
+            }
+
+            ClassLayout layout = layoutOf(type);
+            if (layout.closedField != null) {
+                Class<?> owner = layout.closedField.getDeclaringClass();
+                throw new IllegalStateException("Cannot walk " + owner.getName() + "." + layout.closedField.getName()
+                        + ", start the JVM with --add-opens "
+                        + owner.getModule().getName() + "/" + owner.getPackageName() + "=ALL-UNNAMED");
+            }
+            total += layout.size;
+            for (Field field : layout.references) {
+                Object referenced = read(field, object);
+                if (referenced != null) {
+                    pending.push(referenced);
+                }
+            }
+        }
+
+        return total;
+    }
+
+    /**
+     * @param object the object to measure.
+     * @return bytes of the object itself, without anything it references.
+     */
+    public static long shallowSizeOf(Object object) {
+        return object.getClass().isArray() ? arraySizeOf(object) : layoutOf(object.getClass()).size;
+    }
+
+    private static boolean isShared(Object object) {
+        return object instanceof Class || object instanceof ClassLoader
+                || object instanceof Module || object instanceof Thread;
+    }
+
+    private static long arraySizeOf(Object array) {
+        Class<?> type = array.getClass();
+        long length = java.lang.reflect.Array.getLength(array);
+        return align(ARRAY_HEADER + length * primitiveSize(type.getComponentType()));
+    }
+
+    private static synchronized ClassLayout layoutOf(Class<?> type) {
+        ClassLayout layout = LAYOUTS.get(type);
+        if (layout == null) {
+            layout = new ClassLayout(type);
+            LAYOUTS.put(type, layout);
+        }
+        return layout;
+    }
+
+    private static long align(long size) {
+        return (size + OBJECT_ALIGNMENT - 1) / OBJECT_ALIGNMENT * OBJECT_ALIGNMENT;
+    }
+
+    private static long primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_SIZE;
+    }
+
+    private static Object read(Field field, Object object) {
+        try {
+            return field.get(object);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean booleanOption(String name, boolean fallback) {
+        String value = vmOption(name);
+        return value == null ? fallback : Boolean.parseBoolean(value);
+    }
+
+    private static int intOption(String name, int fallback) {
+        String value = vmOption(name);
+        return value == null ? fallback : Integer.parseInt(value);
+    }
+
+    private static String vmOption(String name) {
+        try {
+            HotSpotDiagnosticMXBean bean = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return bean == null ? null : bean.getVMOption(name).getValue();
+        } catch (IllegalArgumentException e) {
+            // Not a HotSpot option on this JVM, or not available on this platform
+            return null;
+        }
+    }
+
+    /**
+     * Instance size and reference fields of one class, including inherited fields.
+     */
+    private static final class ClassLayout {
+        private final long size;
+        private final Field[] references;
+        // First reference field that could not be made accessible, or null
+        private final Field closedField;
+
+        ClassLayout(Class<?> type) {
+            long end = OBJECT_HEADER;
+            List<Field> references = new ArrayList<>();
+            Field closed = null;
+
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+
+                    end += primitiveSize(field.getType());
+                    if (field.getType().isPrimitive()) {
+                        continue;
+                    }
+                    if (field.trySetAccessible()) {
+                        references.add(field);
+                    } else if (closed == null) {
+                        closed = field;
+                    }
+                }
+            }
+
+            this.size = align(end);
+            this.references = references.toArray(new Field[0]);
+            this.closedField = closed;
+        }
+    }
+}
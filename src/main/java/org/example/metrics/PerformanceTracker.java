@@ -2,6 +2,7 @@ package org.example.metrics;
 
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Tracks performance metrics for MinHeap operations. <br>
@@ -24,6 +25,18 @@ public class PerformanceTracker {
 
     private static boolean metricsInitialized = false;
 
+    // Running totals and depth window that reset() leaves alone, for consumers that take deltas (JFR events).
+    // Kept per thread so that a delta only covers work done by the thread that takes it, and only updated
+    // while some thread has a window open, so heaps pay a single read when nothing is recording.
+    private static final ThreadLocal<ThreadCounters> threadCounters = ThreadLocal.withInitial(ThreadCounters::new);
+    private static final AtomicInteger openWindows = new AtomicInteger();
+
+    private static final class ThreadCounters {
+        private long totalComparisons;
+        private long totalSwaps;
+        private int windowDepth;
+    }
+
     /**
      * Resets all metrics.
      */
@@ -57,10 +70,16 @@ public class PerformanceTracker {
 
     public static void incrementComparisons(long count) {
         comparisons += count;
+        if (openWindows.get() > 0) {
+            threadCounters.get().totalComparisons += count;
+        }
     }
 
     public static void incrementSwaps(long count) {
         swaps += count;
+        if (openWindows.get() > 0) {
+            threadCounters.get().totalSwaps += count;
+        }
     }
 
     public static void incrementArrayAccesses(long count) {
@@ -71,6 +90,53 @@ public class PerformanceTracker {
         if (currentDepth > maxRecursiveDepth) {
             maxRecursiveDepth = currentDepth;
         }
+        if (openWindows.get() > 0) {
+            ThreadCounters counters = threadCounters.get();
+            if (currentDepth > counters.windowDepth) {
+                counters.windowDepth = currentDepth;
+            }
+        }
+    }
+
+    /**
+     * @return comparisons counted on the calling thread inside windows, see {@link #beginWindow()}.
+     */
+    public static long getTotalComparisons() {
+        return threadCounters.get().totalComparisons;
+    }
+
+    /**
+     * @return swaps counted on the calling thread inside windows, see {@link #beginWindow()}.
+     */
+    public static long getTotalSwaps() {
+        return threadCounters.get().totalSwaps;
+    }
+
+    /**
+     * Opens a nested window on the calling thread for tracking one operation: while any window is open,
+     * the running totals and the deepest recursion are counted per thread. Every window must be closed
+     * with {@link #endWindow(int)}.
+     * @return the deepest level of the enclosing window so far, to pass to {@link #endWindow(int)}.
+     */
+    public static int beginWindow() {
+        openWindows.incrementAndGet();
+        ThreadCounters counters = threadCounters.get();
+        int enclosing = counters.windowDepth;
+        counters.windowDepth = 0;
+        return enclosing;
+    }
+
+    /**
+     * Closes a window opened by {@link #beginWindow()} and folds its depth into the enclosing window.
+     * @param enclosing the value returned by {@link #beginWindow()}.
+     * @return the deepest level reached inside the window.
+     */
+    public static int endWindow(int enclosing) {
+        ThreadCounters counters = threadCounters.get();
+        int depth = counters.windowDepth;
+        counters.windowDepth = Math.max(enclosing, depth);
+        openWindows.decrementAndGet();
+        return depth;
     }
 
     /**
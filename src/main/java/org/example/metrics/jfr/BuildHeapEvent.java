@@ -0,0 +1,9 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.example.heap.BuildHeap")
+@Label("Heap Build")
+public class BuildHeapEvent extends HeapOperationEvent {
+}
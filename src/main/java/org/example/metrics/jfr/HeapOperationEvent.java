@@ -0,0 +1,86 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.example.metrics.PerformanceTracker;
+
+/**
+ * Base class of the Flight Recorder events emitted by the heap implementations. <br>
+ * Events are disabled by default and are switched on by {@code jfr/heap-operations.jfc}. Usage:
+ * <pre>
+ * InsertEvent event = new InsertEvent();
+ * event.start(this, size());
+ * ... operation ...
+ * event.finish();
+ * </pre>
+ * When the event is disabled {@link #start} returns straight away and {@link #finish} does nothing,
+ * and the JIT removes the allocation, so an operation costs the same as without the event.
+ * Comparisons, swaps and depth come from the calling thread's counters, so operations running on
+ * other threads do not leak into the event.
+ */
+@Category("Min Heap")
+@Enabled(false)
+@StackTrace(false)
+public abstract class HeapOperationEvent extends Event {
+    @Label("Implementation")
+    String implementation;
+
+    @Label("Heap Size")
+    @Description("Number of elements when the operation started")
+    int heapSize;
+
+    @Label("Comparisons")
+    long comparisons;
+
+    @Label("Swaps")
+    long swaps;
+
+    @Label("Depth")
+    @Description("Deepest sift or recursion level reached")
+    int depth;
+
+    private transient boolean started;
+    private transient long startComparisons;
+    private transient long startSwaps;
+    private transient int enclosingDepth;
+
+    /**
+     * Starts timing the operation if the event is enabled.
+     * @param heap the heap performing the operation.
+     * @param size the heap size before the operation.
+     */
+    public void start(Object heap, int size) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        started = true;
+        implementation = heap.getClass().getSimpleName();
+        heapSize = size;
+        startComparisons = PerformanceTracker.getTotalComparisons();
+        startSwaps = PerformanceTracker.getTotalSwaps();
+        enclosingDepth = PerformanceTracker.beginWindow();
+        begin();
+    }
+
+    /**
+     * Stops timing and commits the event if it passes the recording's threshold.
+     */
+    public void finish() {
+        if (!started) {
+            return;
+        }
+
+        end();
+        depth = PerformanceTracker.endWindow(enclosingDepth);
+        if (shouldCommit()) {
+            comparisons = PerformanceTracker.getTotalComparisons() - startComparisons;
+            swaps = PerformanceTracker.getTotalSwaps() - startSwaps;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.example.heap.InsertBatch")
+@Label("Heap Insert Batch")
+public class InsertBatchEvent extends HeapOperationEvent {
+    @Label("Batch Size")
+    int batchSize;
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.example.heap.Insert")
+@Label("Heap Insert")
+public class InsertEvent extends HeapOperationEvent {
+}
@@ -0,0 +1,141 @@
+package algorithms;
+
+import org.example.algorithms.IMinHeap;
+import org.example.algorithms.impl.BlockedMinHeap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockedMinHeapTest {
+
+    private IMinHeap<Integer> heap;
+
+    @BeforeEach
+    void setUp() {
+        heap = new BlockedMinHeap<>();
+    }
+
+    @Test
+    void testInsertAndGetMin() {
+        heap.insert(5);
+        heap.insert(3);
+        heap.insert(8);
+        heap.insert(1);
+
+        assertEquals(1, heap.getMin());
+    }
+
+    @Test
+    void testExtractMinUntilEmpty() {
+        heap.insert(3);
+        heap.insert(1);
+        heap.insert(2);
+
+        assertEquals(1, heap.extractMin());
+        assertEquals(2, heap.extractMin());
+        assertEquals(3, heap.extractMin());
+        assertThrows(IndexOutOfBoundsException.class, heap::getMin);
+        assertThrows(IndexOutOfBoundsException.class, heap::extractMin);
+    }
+
+    @Test
+    void testDecreaseKeyByIndexUsesLogicalIndex() {
+        heap.insert(10);
+        heap.insert(20);
+        heap.insert(30);
+
+        assertEquals(30, heap.getHeap().get(2));
+        heap.decreaseKey(2, (Integer) 5);
+        assertEquals(5, heap.getMin());
+        assertThrows(IndexOutOfBoundsException.class, () -> heap.decreaseKey(3, (Integer) 1));
+    }
+
+    @Test
+    void testDecreaseKeyByElement() {
+        heap.insert(10);
+        heap.insert(20);
+        heap.insert(30);
+
+        heap.decreaseKey((Integer) 30, (Integer) 1);
+        assertEquals(1, heap.getMin());
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey((Integer) 1, (Integer) 10));
+        assertThrows(NoSuchElementException.class, () -> heap.decreaseKey((Integer) 50, (Integer) 2));
+    }
+
+    @Test
+    void testMergeHeaps() {
+        heap.insert(1);
+        heap.insert(3);
+        heap.mergeHeaps(Arrays.asList(2, 4, 6));
+
+        assertEquals(1, heap.getMin());
+        assertTrue(heap.getHeap().containsAll(Arrays.asList(1, 2, 3, 4, 6)));
+
+        BlockedMinHeap<Integer> merged = new BlockedMinHeap<>(Arrays.asList(5, 7, 9), Arrays.asList(1, 2, 3));
+        assertEquals(6, merged.size());
+        assertEquals(1, merged.getMin());
+    }
+
+    @Test
+    void testInvalidPageHeight() {
+        assertThrows(IllegalArgumentException.class, () -> new BlockedMinHeap<Integer>(0));
+    }
+
+    @Test
+    void testMatchesPriorityQueueAcrossLayoutChanges() {
+        Random random = new Random(7);
+
+        for (int pageHeight = 1; pageHeight <= 5; pageHeight++) {
+            BlockedMinHeap<Integer> blocked = new BlockedMinHeap<>(pageHeight);
+            PriorityQueue<Integer> expected = new PriorityQueue<>();
+
+            // Grow through several depths, then shrink back down with mixed operations
+            for (int i = 0; i < 5000; i++) {
+                int value = random.nextInt(1000);
+                blocked.insert(value);
+                expected.add(value);
+            }
+            assertHeapOrdered(blocked.getHeap());
+
+            for (int i = 0; i < 20000 && !expected.isEmpty(); i++) {
+                if (random.nextInt(4) == 0) {
+                    int value = random.nextInt(1000);
+                    blocked.insert(value);
+                    expected.add(value);
+                } else {
+                    assertEquals(expected.poll(), blocked.extractMin());
+                }
+                assertEquals(expected.size(), blocked.size());
+            }
+        }
+    }
+
+    @Test
+    void testBuildFromListIsHeapOrdered() {
+        Random random = new Random(11);
+        for (int n = 0; n < 300; n++) {
+            List<Integer> data = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                data.add(random.nextInt(100));
+            }
+
+            BlockedMinHeap<Integer> built = new BlockedMinHeap<>(data);
+            assertEquals(n, built.size());
+            assertHeapOrdered(built.getHeap());
+        }
+    }
+
+    private static void assertHeapOrdered(List<Integer> heap) {
+        for (int i = 1; i < heap.size(); i++) {
+            assertTrue(heap.get((i - 1) / 2) <= heap.get(i), "heap property violated at " + i);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package algorithms;
+
+import org.example.algorithms.impl.ConcurrentMinHeap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentMinHeapTest {
+
+    private ConcurrentMinHeap<Integer> heap;
+
+    @BeforeEach
+    void setUp() {
+        heap = new ConcurrentMinHeap<>();
+    }
+
+    @Test
+    void testOfferPeekPoll() {
+        assertNull(heap.peek());
+        assertNull(heap.poll());
+
+        heap.offer(5);
+        heap.offer(3);
+        heap.offer(8);
+
+        assertEquals(3, heap.peek());
+        assertEquals(3, heap.getMin());
+        assertEquals(3, heap.poll());
+        assertEquals(5, heap.extractMin());
+        assertEquals(1, heap.size());
+    }
+
+    @Test
+    void testGetMinOnEmptyHeapThrows() {
+        assertThrows(IndexOutOfBoundsException.class, heap::getMin);
+        assertThrows(IndexOutOfBoundsException.class, heap::extractMin);
+    }
+
+    @Test
+    void testRejectsNulls() {
+        assertThrows(NullPointerException.class, () -> heap.offer(null));
+        assertThrows(NullPointerException.class, () -> heap.offerAll(Arrays.asList(1, null)));
+        assertEquals(0, heap.size());
+    }
+
+    @Test
+    void testDrainToRespectsMaxAndOrder() {
+        heap.offerAll(Arrays.asList(9, 4, 7, 1, 8, 2));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, heap.drainTo(drained, 3));
+        assertEquals(Arrays.asList(1, 2, 4), drained);
+        assertEquals(7, heap.peek());
+
+        assertEquals(3, heap.drainTo(drained));
+        assertEquals(Arrays.asList(1, 2, 4, 7, 8, 9), drained);
+        assertNull(heap.peek());
+        assertThrows(IllegalArgumentException.class, () -> heap.drainTo(heap));
+    }
+
+    @Test
+    void testFailedDrainKeepsPeekInSync() {
+        heap.offerAll(Arrays.asList(5, 3, 1, 4));
+
+        ArrayBlockingQueue<Integer> full = new ArrayBlockingQueue<>(2);
+        assertThrows(IllegalStateException.class, () -> heap.drainTo(full));
+        assertEquals(Arrays.asList(1, 3), new ArrayList<>(full));
+        assertEquals(4, heap.peek());
+        assertEquals(4, heap.poll());
+        assertEquals(5, heap.peek());
+    }
+
+    @Test
+    void testOfferAllSmallAndLargeBatches() {
+        heap.offerAll(Arrays.asList(50, 40, 30, 20, 10));
+        heap.offerAll(Arrays.asList(35, 5));
+        heap.addAll(Arrays.asList(60, 1, 45, 25, 15, 55));
+
+        List<Integer> drained = new ArrayList<>();
+        heap.drainTo(drained);
+        assertEquals(Arrays.asList(1, 5, 10, 15, 20, 25, 30, 35, 40, 45, 50, 55, 60), drained);
+    }
+
+    @Test
+    void testRemoveAndIterator() {
+        heap.offerAll(Arrays.asList(4, 2, 6, 1));
+
+        assertTrue(heap.remove(1));
+        assertFalse(heap.remove(42));
+        assertEquals(2, heap.peek());
+
+        Iterator<Integer> iterator = heap.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == 6) {
+                iterator.remove();
+            }
+        }
+        assertFalse(heap.contains(6));
+        assertEquals(2, heap.size());
+    }
+
+    @Test
+    void testDecreaseKeyRepublishesMin() {
+        heap.offerAll(Arrays.asList(10, 20, 30));
+        heap.decreaseKey((Integer) 30, (Integer) 1);
+        assertEquals(1, heap.peek());
+    }
+
+    @Test
+    void testTimedPollOnEmptyHeap() throws InterruptedException {
+        assertNull(heap.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testProducersAndConsumersSeeEveryElement() throws Exception {
+        int producers = 4;
+        int perProducer = 5000;
+        int consumers = 4;
+        int perConsumer = producers * perProducer / consumers;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> sums = new ArrayList<>();
+            for (int c = 0; c < consumers; c++) {
+                sums.add(executor.submit(() -> {
+                    long sum = 0;
+                    List<Integer> buffer = new ArrayList<>();
+                    int taken = 0;
+                    while (taken < perConsumer) {
+                        buffer.clear();
+                        if (heap.drainTo(buffer, Math.min(16, perConsumer - taken)) == 0) {
+                            buffer.add(heap.take());
+                        }
+                        for (int value : buffer) {
+                            sum += value;
+                        }
+                        taken += buffer.size();
+                    }
+                    return sum;
+                }));
+            }
+
+            for (int p = 0; p < producers; p++) {
+                int offset = p * perProducer;
+                executor.submit(() -> {
+                    List<Integer> batch = new ArrayList<>();
+                    for (int i = 0; i < perProducer; i++) {
+                        batch.add(offset + i);
+                        if (batch.size() == 32) {
+                            heap.offerAll(batch);
+                            batch.clear();
+                        }
+                    }
+                    heap.offerAll(batch);
+                });
+            }
+
+            long total = 0;
+            for (Future<Long> sum : sums) {
+                total += sum.get(30, TimeUnit.SECONDS);
+            }
+
+            long n = (long) producers * perProducer;
+            assertEquals(n * (n - 1) / 2, total);
+            assertEquals(0, heap.size());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package algorithms;
+
+import org.example.algorithms.impl.IntDaryHeap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntDaryHeapTest {
+
+    @Test
+    void testExtractMinReturnsSortedOrder() {
+        Random random = new Random(7);
+        for (int arity : new int[]{8, 16}) {
+            for (boolean vectorized : new boolean[]{true, false}) {
+                IntDaryHeap heap = new IntDaryHeap(arity, vectorized);
+                int[] values = new int[5000];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = random.nextInt(1000) - 500;
+                    heap.insert(values[i]);
+                }
+
+                Arrays.sort(values);
+                for (int value : values) {
+                    assertEquals(value, heap.extractMin());
+                }
+                assertTrue(heap.isEmpty());
+            }
+        }
+    }
+
+    @Test
+    void testBuildFromArrayMatchesPriorityQueue() {
+        Random random = new Random(8);
+        for (int n : new int[]{0, 1, 7, 8, 9, 17, 300, 4097}) {
+            int[] values = new int[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = random.nextInt();
+            }
+            if (n > 0) {
+                values[n / 2] = Integer.MAX_VALUE;
+            }
+
+            for (int arity : new int[]{8, 16}) {
+                IntDaryHeap heap = new IntDaryHeap(values, arity, true);
+                PriorityQueue<Integer> expected = new PriorityQueue<>();
+                for (int value : heap.toArray()) {
+                    expected.add(value);
+                }
+
+                for (int step = 0; step < 3 * n; step++) {
+                    if (step % 3 == 0) {
+                        int value = random.nextInt(100);
+                        heap.insert(value);
+                        expected.add(value);
+                    } else if (!expected.isEmpty()) {
+                        assertEquals(expected.poll(), heap.extractMin());
+                    }
+                    assertEquals(expected.size(), heap.size());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testVectorizedMatchesScalar() {
+        Random random = new Random(9);
+        int[] values = new int[20000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(50);
+        }
+
+        IntDaryHeap vector = new IntDaryHeap(values, 16, true);
+        IntDaryHeap scalar = new IntDaryHeap(values, 16, false);
+        assertFalse(scalar.isVectorized());
+        assertArrayEquals(scalar.toArray(), vector.toArray());
+        while (!scalar.isEmpty()) {
+            assertEquals(scalar.extractMin(), vector.extractMin());
+        }
+    }
+
+    @Test
+    void testVectorizedWhenModuleIsPresent() {
+        boolean present = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        assertEquals(present, new IntDaryHeap().isVectorized());
+    }
+
+    @Test
+    void testEmptyHeapAndInvalidArity() {
+        IntDaryHeap heap = new IntDaryHeap();
+        assertThrows(IndexOutOfBoundsException.class, heap::getMin);
+        assertThrows(IndexOutOfBoundsException.class, heap::extractMin);
+        assertThrows(IllegalArgumentException.class, () -> new IntDaryHeap(4, false));
+    }
+}
@@ -0,0 +1,202 @@
+package algorithms;
+
+import org.example.algorithms.impl.LazyDeletionMinHeap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyDeletionMinHeapTest {
+
+    private LazyDeletionMinHeap<Integer> heap;
+
+    @BeforeEach
+    void setUp() {
+        heap = new LazyDeletionMinHeap<>();
+    }
+
+    @Test
+    void testDeletedElementsAreSkipped() {
+        LazyDeletionMinHeap.Handle<Integer> one = heap.insertWithHandle(1);
+        LazyDeletionMinHeap.Handle<Integer> two = heap.insertWithHandle(2);
+        heap.insert(3);
+        heap.insert(4);
+
+        assertTrue(heap.delete(one));
+        assertTrue(heap.delete(two));
+        assertFalse(heap.delete(one));
+        assertFalse(one.isAlive());
+
+        assertEquals(2, heap.size());
+        assertEquals(3, heap.getMin());
+        assertEquals(3, heap.extractMin());
+        assertEquals(4, heap.extractMin());
+        assertThrows(IndexOutOfBoundsException.class, heap::getMin);
+    }
+
+    @Test
+    void testExtractedHandleCannotBeDeleted() {
+        LazyDeletionMinHeap.Handle<Integer> handle = heap.insertWithHandle(1);
+        heap.insert(2);
+
+        assertEquals(1, heap.extractMin());
+        assertFalse(heap.delete(handle));
+        assertEquals(1, heap.size());
+    }
+
+    @Test
+    void testHandleFromOtherHeapIsRejected() {
+        LazyDeletionMinHeap<Integer> other = new LazyDeletionMinHeap<>();
+        LazyDeletionMinHeap.Handle<Integer> handle = other.insertWithHandle(1);
+        heap.insert(1);
+
+        assertFalse(heap.delete(handle));
+        assertEquals(1, heap.size());
+    }
+
+    @Test
+    void testCompactionTriggeredByThreshold() {
+        LazyDeletionMinHeap<Integer> compacting = new LazyDeletionMinHeap<>(0.25);
+        List<LazyDeletionMinHeap.Handle<Integer>> handles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            handles.add(compacting.insertWithHandle(i));
+        }
+
+        for (int i = 50; i < 75; i++) {
+            compacting.delete(handles.get(i));
+        }
+        assertEquals(0, compacting.getCompactionCount());
+        assertEquals(0.25, compacting.getDeadEntryRatio(), 1e-9);
+
+        compacting.delete(handles.get(75));
+        assertEquals(1, compacting.getCompactionCount());
+        assertEquals(0, compacting.getDeadCount());
+        assertEquals(0.0, compacting.getDeadEntryRatio(), 1e-9);
+        assertTrue(compacting.getLastCompactionTimeNanos() > 0);
+        assertEquals(74, compacting.size());
+        assertEquals(74, compacting.getHeap().size());
+    }
+
+    @Test
+    void testInvalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new LazyDeletionMinHeap<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new LazyDeletionMinHeap<Integer>(1.5));
+    }
+
+    @Test
+    void testRemoveByValueAndDecreaseKey() {
+        heap.insert(10);
+        heap.insert(20);
+        heap.insert(30);
+
+        assertTrue(heap.remove(10));
+        assertFalse(heap.remove(10));
+        heap.decreaseKey((Integer) 30, (Integer) 5);
+        assertEquals(5, heap.getMin());
+
+        assertThrows(NoSuchElementException.class, () -> heap.decreaseKey((Integer) 10, (Integer) 1));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey((Integer) 5, (Integer) 50));
+    }
+
+    @Test
+    void testDecreaseKeyByIndexCountsLiveElementsOnly() {
+        LazyDeletionMinHeap.Handle<Integer> one = heap.insertWithHandle(1);
+        heap.insert(2);
+        heap.insert(3);
+        heap.delete(one);
+
+        List<Integer> live = heap.getHeap();
+        assertEquals(Arrays.asList(2, 3), live);
+        heap.decreaseKey(1, (Integer) 0);
+        assertEquals(0, heap.getMin());
+        assertThrows(IndexOutOfBoundsException.class, () -> heap.decreaseKey(2, (Integer) 0));
+    }
+
+    @Test
+    void testMergeHeapsDropsTombstones() {
+        LazyDeletionMinHeap.Handle<Integer> one = heap.insertWithHandle(1);
+        heap.insert(4);
+        heap.delete(one);
+
+        heap.mergeHeaps(Arrays.asList(3, 2));
+        assertEquals(0, heap.getDeadCount());
+        assertEquals(3, heap.size());
+        assertEquals(2, heap.getMin());
+
+        LazyDeletionMinHeap.Handle<Integer> four = heap.insertWithHandle(40);
+        heap.mergeHeaps(Arrays.asList(7), Arrays.asList(6));
+        assertFalse(heap.delete(four));
+        assertEquals(2, heap.size());
+        assertEquals(6, heap.extractMin());
+    }
+
+    @Test
+    void testMergeAfterDeletesKeepsOrder() {
+        Random random = new Random(14);
+        for (int round = 0; round < 200; round++) {
+            LazyDeletionMinHeap<Integer> merged = new LazyDeletionMinHeap<>();
+            PriorityQueue<Integer> expected = new PriorityQueue<>();
+            List<LazyDeletionMinHeap.Handle<Integer>> handles = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                int value = random.nextInt(1000);
+                handles.add(merged.insertWithHandle(value));
+                expected.add(value);
+            }
+            for (int i = 0; i < 10; i++) {
+                LazyDeletionMinHeap.Handle<Integer> handle = handles.remove(random.nextInt(handles.size()));
+                merged.delete(handle);
+                expected.remove(handle.get());
+            }
+
+            List<Integer> other = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                other.add(random.nextInt(1000));
+            }
+            merged.mergeHeaps(other);
+            expected.addAll(other);
+
+            assertEquals(0, merged.getDeadCount());
+            while (!expected.isEmpty()) {
+                assertEquals(expected.poll(), merged.extractMin());
+            }
+        }
+    }
+
+    @Test
+    void testMatchesPriorityQueueWithRandomDeletes() {
+        Random random = new Random(5);
+        LazyDeletionMinHeap<Integer> compacting = new LazyDeletionMinHeap<>(0.3);
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        List<LazyDeletionMinHeap.Handle<Integer>> handles = new ArrayList<>();
+
+        for (int step = 0; step < 20000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                int value = random.nextInt(1000);
+                handles.add(compacting.insertWithHandle(value));
+                expected.add(value);
+            } else if (operation < 8 && !handles.isEmpty()) {
+                LazyDeletionMinHeap.Handle<Integer> handle = handles.remove(random.nextInt(handles.size()));
+                if (handle.isAlive()) {
+                    assertTrue(compacting.delete(handle));
+                    expected.remove(handle.get());
+                }
+            } else if (!expected.isEmpty()) {
+                assertEquals(expected.poll(), compacting.extractMin());
+            }
+            assertEquals(expected.size(), compacting.size());
+        }
+
+        assertTrue(compacting.getCompactionCount() > 0);
+        while (!expected.isEmpty()) {
+            assertEquals(expected.poll(), compacting.extractMin());
+        }
+    }
+}
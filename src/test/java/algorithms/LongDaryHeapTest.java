@@ -0,0 +1,42 @@
+package algorithms;
+
+import org.example.algorithms.impl.LongDaryHeap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongDaryHeapTest {
+
+    @Test
+    void testExtractMinReturnsSortedOrder() {
+        Random random = new Random(10);
+        for (int arity : new int[]{8, 16}) {
+            for (boolean vectorized : new boolean[]{true, false}) {
+                long[] values = new long[5000];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = random.nextLong();
+                }
+                values[0] = Long.MAX_VALUE;
+                values[1] = Long.MIN_VALUE;
+
+                LongDaryHeap heap = new LongDaryHeap(values, arity, vectorized);
+                for (int i = 0; i < 1000; i++) {
+                    heap.insert(values[i] / 2);
+                }
+
+                long[] expected = Arrays.copyOf(values, values.length + 1000);
+                for (int i = 0; i < 1000; i++) {
+                    expected[values.length + i] = values[i] / 2;
+                }
+                Arrays.sort(expected);
+                for (long value : expected) {
+                    assertEquals(value, heap.extractMin());
+                }
+                assertThrows(IndexOutOfBoundsException.class, heap::getMin);
+            }
+        }
+    }
+}
@@ -7,8 +7,11 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -110,6 +113,117 @@ class MinHeapTest {
         assertEquals(2, newHeap.getMin());
     }
 
+    @Test
+    void testBuildHeapFromListIsHeapOrdered() {
+        Random random = new Random(3);
+        for (int n = 1; n < 200; n++) {
+            List<Integer> data = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                data.add(random.nextInt(50));
+            }
+
+            List<Integer> built = new MinHeap<>(data).getHeap();
+            for (int i = 1; i < n; i++) {
+                assertTrue(built.get((i - 1) / 2) <= built.get(i), "heap property violated at " + i);
+            }
+        }
+    }
+
+    @Test
+    void testBuildHeapFromPresortedListIsHeapOrdered() {
+        Random random = new Random(4);
+        for (int n = 1; n < 600; n += 7) {
+            List<Integer> ascending = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                ascending.add(i / 3);
+            }
+            List<Integer> descending = new ArrayList<>(ascending);
+            descending.sort(Comparator.reverseOrder());
+            List<Integer> nearlySorted = new ArrayList<>(ascending);
+            for (int i = 0; i < n / 10; i++) {
+                Collections.swap(nearlySorted, random.nextInt(n), random.nextInt(n));
+            }
+            List<Integer> sawtooth = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                sawtooth.add(i % 2 == 0 ? 20 - i % 20 : i % 20);
+            }
+
+            for (List<Integer> data : List.of(ascending, descending, nearlySorted, sawtooth)) {
+                List<Integer> built = new MinHeap<>(data, true).getHeap();
+                assertHeapOrdered(built);
+
+                List<Integer> expected = new ArrayList<>(data);
+                List<Integer> actual = new ArrayList<>(built);
+                Collections.sort(expected);
+                Collections.sort(actual);
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    void testMergeHeapsRebuildsOnlyAppendedPart() {
+        Random random = new Random(6);
+        for (int round = 0; round < 200; round++) {
+            MinHeap<Integer> merged = new MinHeap<>(new ArrayList<Integer>(), true);
+            int n = random.nextInt(100);
+            for (int i = 0; i < n; i++) {
+                merged.insert(random.nextInt(100));
+            }
+
+            List<Integer> other = new ArrayList<>();
+            int m = random.nextInt(100);
+            for (int i = 0; i < m; i++) {
+                other.add(round % 2 == 0 ? random.nextInt(100) : 100 - i);
+            }
+
+            merged.mergeHeaps(other);
+            assertEquals(n + m, merged.size());
+            assertHeapOrdered(merged.getHeap());
+        }
+    }
+
+    @Test
+    void testBatchOperationsMatchSequentialOperations() {
+        Random random = new Random(13);
+        MinHeap<Integer> batched = new MinHeap<>();
+        MinHeap<Integer> sequential = new MinHeap<>();
+
+        for (int batchSize : new int[]{1, 5, 16, 300, 4096, 70000, 3, 20000}) {
+            Integer[] batch = new Integer[batchSize];
+            for (int i = 0; i < batchSize; i++) {
+                batch[i] = random.nextInt(50000);
+            }
+
+            batched.insertBatch(batch);
+            for (Integer value : batch) {
+                sequential.insert(value);
+            }
+            assertHeapOrdered(batched.getHeap());
+
+            int k = batched.size() / 3 + 1;
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < k; i++) {
+                expected.add(sequential.extractMin());
+            }
+            assertEquals(expected, batched.extractMinBatch(k));
+            assertEquals(sequential.size(), batched.size());
+            assertHeapOrdered(batched.getHeap());
+        }
+
+        assertEquals(batched.size(), batched.extractMinBatch(batched.size()).size());
+        assertEquals(0, batched.size());
+    }
+
+    @Test
+    void testExtractMinBatchBounds() {
+        MinHeap<Integer> batched = new MinHeap<>(Arrays.asList(3, 1, 2));
+        assertTrue(batched.extractMinBatch(0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> batched.extractMinBatch(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batched.extractMinBatch(4));
+        assertEquals(Arrays.asList(1, 2, 3), batched.extractMinBatch(3));
+    }
+
     @Test
     void testExtractMinUntilEmpty() {
         heap.insert(3);
@@ -143,4 +257,10 @@ class MinHeapTest {
         heap.decreaseKey((Integer) 10, (Integer) 2);
         assertEquals(2, heap.getMin());
     }
+
+    private static void assertHeapOrdered(List<Integer> built) {
+        for (int i = 1; i < built.size(); i++) {
+            assertTrue(built.get((i - 1) / 2) <= built.get(i), "heap property violated at " + i);
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package algorithms;
+
+import org.example.algorithms.impl.SegmentedMinHeap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedMinHeapTest {
+
+    private SegmentedMinHeap<Integer> heap;
+
+    @BeforeEach
+    void setUp() {
+        heap = new SegmentedMinHeap<>(4);
+    }
+
+    @Test
+    void testGrowsAndReleasesChunks() {
+        for (int i = 100; i > 0; i--) {
+            heap.insert(i);
+        }
+        assertEquals(7, heap.getChunkCount());
+        assertEquals(100, heap.longSize());
+
+        for (int i = 1; i <= 60; i++) {
+            assertEquals(i, heap.extractMin());
+        }
+        assertEquals(4, heap.getChunkCount());
+
+        while (heap.size() > 0) {
+            heap.extractMin();
+        }
+        assertEquals(1, heap.getChunkCount());
+        assertThrows(IndexOutOfBoundsException.class, heap::getMin);
+    }
+
+    @Test
+    void testMatchesPriorityQueue() {
+        Random random = new Random(11);
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        for (int step = 0; step < 20000; step++) {
+            if (random.nextInt(3) > 0) {
+                int value = random.nextInt(1000);
+                heap.insert(value);
+                expected.add(value);
+            } else if (!expected.isEmpty()) {
+                assertEquals(expected.poll(), heap.extractMin());
+            }
+            assertEquals(expected.size(), heap.size());
+        }
+    }
+
+    @Test
+    void testBuildAndMergeAreHeapOrdered() {
+        Random random = new Random(12);
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            first.add(random.nextInt(100));
+            second.add(random.nextInt(100));
+        }
+
+        SegmentedMinHeap<Integer> built = new SegmentedMinHeap<>(first);
+        built.mergeHeaps(second);
+        assertEquals(1000, built.size());
+        assertHeapOrdered(built.getHeap());
+
+        heap.mergeHeaps(first, second);
+        assertEquals(1000, heap.size());
+        assertHeapOrdered(heap.getHeap());
+    }
+
+    @Test
+    void testDecreaseKey() {
+        heap.mergeHeaps(Arrays.asList(5, 10, 15), Arrays.asList(20, 25));
+        heap.decreaseKey(4L, 1);
+        assertEquals(1, heap.getMin());
+        heap.decreaseKey((Integer) 15, (Integer) 0);
+        assertEquals(0, heap.getMin());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> heap.decreaseKey(5L, 0));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(0, (Integer) 50));
+        assertThrows(NoSuchElementException.class, () -> heap.decreaseKey((Integer) 99, (Integer) 2));
+    }
+
+    @Test
+    void testInvalidChunkBits() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedMinHeap<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedMinHeap<Integer>(31));
+    }
+
+    private static void assertHeapOrdered(List<Integer> built) {
+        for (int i = 1; i < built.size(); i++) {
+            assertTrue(built.get((i - 1) / 2) <= built.get(i), "heap property violated at " + i);
+        }
+    }
+}
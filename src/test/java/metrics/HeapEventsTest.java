@@ -0,0 +1,101 @@
+package metrics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.example.algorithms.impl.MinHeap;
+import org.example.cli.JfrHeapAnalyzer;
+import org.example.metrics.PerformanceTracker;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeapEventsTest {
+
+    @Test
+    void testSettingsProfileEnablesHeapEvents() throws Exception {
+        Configuration configuration = Configuration.create(Path.of("src/main/resources/jfr/heap-operations.jfc"));
+        Map<String, String> settings = configuration.getSettings();
+
+        for (String event : List.of("Insert", "ExtractMin", "DecreaseKey", "MergeHeaps", "BuildHeap",
+                "InsertBatch", "ExtractMinBatch")) {
+            assertEquals("true", settings.get("org.example.heap." + event + "#enabled"), event);
+        }
+    }
+
+    @Test
+    void testEventCountersIgnoreOtherThreads() throws Exception {
+        long comparisons = PerformanceTracker.getTotalComparisons();
+        long swaps = PerformanceTracker.getTotalSwaps();
+        int enclosing = PerformanceTracker.beginWindow();
+
+        Thread worker = new Thread(() -> {
+            MinHeap<Integer> heap = new MinHeap<>();
+            for (int i = 100; i > 0; i--) {
+                heap.insert(i);
+            }
+        });
+        worker.start();
+        worker.join();
+
+        assertEquals(comparisons, PerformanceTracker.getTotalComparisons());
+        assertEquals(swaps, PerformanceTracker.getTotalSwaps());
+
+        new MinHeap<>(Arrays.asList(3, 2, 1));
+        PerformanceTracker.endWindow(enclosing);
+        assertTrue(PerformanceTracker.getTotalComparisons() > comparisons);
+    }
+
+    @Test
+    void testCountersAreIdleWithoutWindow() {
+        long comparisons = PerformanceTracker.getTotalComparisons();
+        new MinHeap<>(Arrays.asList(3, 2, 1));
+        assertEquals(comparisons, PerformanceTracker.getTotalComparisons());
+    }
+
+    @Test
+    void testRecordedOperationsAreSummarized() throws Exception {
+        Path file = Files.createTempFile("heap", ".jfr");
+        try {
+            Configuration configuration = Configuration.create(Path.of("src/main/resources/jfr/heap-operations.jfc"));
+            try (Recording recording = new Recording(configuration)) {
+                recording.start();
+
+                MinHeap<Integer> heap = new MinHeap<>();
+                for (int i = 100; i > 0; i--) {
+                    heap.insert(i);
+                }
+                heap.extractMin();
+                heap.decreaseKey((Integer) 50, (Integer) 0);
+                heap.mergeHeaps(Arrays.asList(7, 3), Arrays.asList(9, 1));
+
+                recording.stop();
+                recording.dump(file);
+            }
+
+            Map<String, JfrHeapAnalyzer.OperationSummary> summaries = JfrHeapAnalyzer.summarize(file).stream()
+                    .collect(Collectors.toMap(JfrHeapAnalyzer.OperationSummary::getOperation, summary -> summary));
+
+            JfrHeapAnalyzer.OperationSummary insert = summaries.get("Insert");
+            assertEquals(100, insert.getCount());
+            assertEquals("MinHeap", insert.getImplementation());
+            assertTrue(insert.getMeanComparisons() > 0);
+            assertTrue(insert.getMeanSwaps() > 0);
+            assertTrue(insert.getMaxDepth() > 0);
+
+            assertEquals(1, summaries.get("ExtractMin").getCount());
+            assertEquals(100, summaries.get("ExtractMin").getMeanHeapSize(), 1e-9);
+            assertEquals(1, summaries.get("DecreaseKey").getCount());
+            assertEquals(1, summaries.get("MergeHeaps").getCount());
+            assertEquals(1, summaries.get("BuildHeap").getCount());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package metrics;
+
+import org.example.algorithms.impl.MinHeap;
+import org.example.metrics.ObjectGraphSizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectGraphSizerTest {
+
+    @Test
+    void testArraysAndSharedObjectsAreCountedOnce() {
+        Integer shared = 1000;
+        Object[] array = {shared, shared, null, shared};
+        long arraySize = ObjectGraphSizer.shallowSizeOf(array);
+
+        assertTrue(arraySize >= 16 + 4 * 4);
+        assertEquals(0, arraySize % 8);
+        assertEquals(arraySize + ObjectGraphSizer.shallowSizeOf(shared), ObjectGraphSizer.deepSizeOf(array));
+    }
+
+    @Test
+    void testClosedPackageFailsInsteadOfUndercounting() {
+        // Surefire opens java.util but not java.lang, so String.value cannot be read
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ObjectGraphSizer.deepSizeOf(new Object[]{"text"}));
+        assertTrue(e.getMessage().contains("--add-opens java.base/java.lang=ALL-UNNAMED"), e.getMessage());
+        assertTrue(ObjectGraphSizer.shallowSizeOf("text") >= 16);
+    }
+
+    @Test
+    void testHeapSizeGrowsWithElements() {
+        List<Integer> data = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            data.add(i + 1000);
+        }
+
+        long small = ObjectGraphSizer.deepSizeOf(new MinHeap<>(data.subList(0, 1000)));
+        long large = ObjectGraphSizer.deepSizeOf(new MinHeap<>(data));
+        long perElement = ObjectGraphSizer.shallowSizeOf(data.getFirst()) + 4;
+
+        assertTrue(large - small >= 9000 * perElement);
+        assertTrue(large - small < 9000 * (perElement + 8));
+    }
+}